@@ -0,0 +1,72 @@
+package seedu.address.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the throughput of {@code AddressBookParser#parseCommand} for a typical input of every command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CommandParserBenchmark {
+
+    private static final Map<String, String> INPUTS = Map.ofEntries(
+            Map.entry("add", "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 "
+                    + "d/2024-01-15 t/diabetic t/elderly m/Metformin m/Insulin"),
+            Map.entry("edit", "edit 1 p/91234567 e/johndoe@example.com"),
+            Map.entry("delete", "delete 1"),
+            Map.entry("clear", "clear"),
+            Map.entry("find", "find alice bob charlie"),
+            Map.entry("findMed", "findMed m/Metformin m/Insulin"),
+            Map.entry("findVisit", "findVisit from/2024-01-01 to/2024-06-30"),
+            Map.entry("list", "list"),
+            Map.entry("exit", "exit"),
+            Map.entry("help", "help"),
+            Map.entry("lastVisit", "lastVisit 1 d/2024-01-15"),
+            Map.entry("untag", "untag 2 t/diabetic t/elderly"),
+            Map.entry("delLastVisit", "delLastVisit 1"),
+            Map.entry("prescribe", "prescribe 1 m/Panadol m/Aspirin"),
+            Map.entry("unprescribe", "unprescribe 1 m/Panadol"),
+            Map.entry("tag", "tag 2 t/diabetic"));
+
+    @Param({"add", "edit", "delete", "clear", "find", "findMed", "findVisit", "list", "exit", "help", "lastVisit",
+        "untag", "delLastVisit", "prescribe", "unprescribe", "tag"})
+    private String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ParseException {
+        input = INPUTS.get(commandWord);
+        // fails the trial at once if the input is not a valid command
+        parser.parseCommand(input);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+
+}
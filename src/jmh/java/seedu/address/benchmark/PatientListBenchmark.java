@@ -0,0 +1,102 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.patient.UniquePatientList;
+
+/**
+ * Measures the operations on a large {@code UniquePatientList} that compare or hash patients.
+ * Patients are always looked up through equal copies rather than the stored instances, as commands do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PatientListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private UniquePatientList list;
+    private Patient[] stored;
+    private Patient[] edited;
+    // Equal copies of stored and edited, built once so that the benchmarks do not also measure building patients
+    private Patient[] storedCopies;
+    private Patient[] editedCopies;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Patient> patients = SyntheticAddressBooks.generatePatients(size);
+        list = new UniquePatientList();
+        list.setPatients(patients);
+        stored = patients.toArray(new Patient[0]);
+        edited = new Patient[size];
+        for (int i = 0; i < size; i++) {
+            Patient patient = stored[i];
+            edited[i] = new Patient(patient.getName(), new Phone(String.valueOf(90000000 + i)), patient.getEmail(),
+                    patient.getAddress(), patient.getLastVisit(), patient.getTags(), patient.getMedicines());
+        }
+        storedCopies = new Patient[size];
+        editedCopies = new Patient[size];
+        for (int i = 0; i < size; i++) {
+            storedCopies[i] = copyOf(stored[i]);
+            editedCopies[i] = copyOf(edited[i]);
+        }
+    }
+
+    /**
+     * Edits the phone number of the next patient, and swaps the original back in when it is next edited.
+     */
+    @Benchmark
+    public void setPatient() {
+        int i = next;
+        next = (next + 1) % size;
+        list.setPatient(storedCopies[i], edited[i]);
+        swap(stored, edited, i);
+        swap(storedCopies, editedCopies, i);
+    }
+
+    /**
+     * Removes the last patient and adds it back, so that the list keeps its size.
+     */
+    @Benchmark
+    public void removeAndAdd() {
+        list.remove(storedCopies[size - 1]);
+        list.add(stored[size - 1]);
+    }
+
+    @Benchmark
+    public int listHashCode() {
+        return list.hashCode();
+    }
+
+    private static void swap(Patient[] first, Patient[] second, int i) {
+        Patient patient = first[i];
+        first[i] = second[i];
+        second[i] = patient;
+    }
+
+    private static Patient copyOf(Patient patient) {
+        return new Patient(patient.getName(), patient.getPhone(), patient.getEmail(), patient.getAddress(),
+                patient.getLastVisit(), patient.getTags(), patient.getMedicines());
+    }
+}
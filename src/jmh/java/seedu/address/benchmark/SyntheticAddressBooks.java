@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Address;
+import seedu.address.model.patient.Email;
+import seedu.address.model.patient.LastVisit;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any size for benchmarks.
+ * The same size always gives the same address book, so that results can be compared between runs.
+ */
+public class SyntheticAddressBooks {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Mei Ling",
+        "Siti", "Tan", "Wei Jie"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Lim",
+        "Ng", "Koh", "Rahman"};
+    private static final String[] TAGS = {"diabetic", "elderly", "followUp", "highRisk", "wheelchair", "allergic",
+        "outpatient", "pregnant"};
+    private static final String[] MEDICINES = {"Panadol", "Metformin", "Insulin", "Amlodipine", "Atorvastatin",
+        "Lisinopril", "Omeprazole", "Aspirin", "Salbutamol", "Warfarin", "Losartan", "Simvastatin"};
+    private static final LocalDate FIRST_VISIT = LocalDate.of(2015, 1, 1);
+    private static final long SEED = 42;
+
+    /**
+     * Returns {@code size} distinct patients.
+     */
+    public static List<Patient> generatePatients(int size) {
+        Random random = new Random(SEED);
+        List<Patient> patients = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            LastVisit lastVisit = random.nextInt(10) == 0
+                    ? null
+                    : new LastVisit(FIRST_VISIT.plusDays(random.nextInt(3000)));
+            patients.add(new Patient(
+                    new Name(firstName + " " + lastName + " " + i),
+                    new Phone(String.valueOf(80000000 + i)),
+                    new Email(firstName.replace(" ", "").toLowerCase() + i + "@example.com"),
+                    new Address("Blk " + (i % 999 + 1) + " Ang Mo Kio Avenue " + (i % 10 + 1) + ", #0" + (i % 9 + 1)
+                            + "-" + (i % 90 + 10)),
+                    lastVisit,
+                    Set.of(Tag.of(TAGS[random.nextInt(TAGS.length)])),
+                    pick(random, MEDICINES, random.nextInt(4))));
+        }
+        return patients;
+    }
+
+    /**
+     * Returns an address book of {@code size} patients.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPatients(generatePatients(size));
+        return addressBook;
+    }
+
+    private static Set<Medicine> pick(Random random, String[] medNames, int count) {
+        Set<Medicine> medicines = new HashSet<>();
+        while (medicines.size() < count) {
+            medicines.add(Medicine.of(medNames[random.nextInt(medNames.length)]));
+        }
+        return medicines;
+    }
+}
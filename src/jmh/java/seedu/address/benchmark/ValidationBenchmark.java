@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the time taken to validate the fields of every patient in an address book and create their value
+ * objects, as is done for each patient when an address book is loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private String[][] fields;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Patient> patients = SyntheticAddressBooks.generatePatients(size);
+        fields = new String[size][];
+        for (int i = 0; i < size; i++) {
+            Patient patient = patients.get(i);
+            String[] patientFields = new String[4 + patient.getTags().size() + patient.getMedicines().size()];
+            patientFields[0] = patient.getName().fullName;
+            patientFields[1] = patient.getPhone().value;
+            patientFields[2] = patient.getEmail().value;
+            patientFields[3] = patient.getAddress().value;
+            int next = 4;
+            for (Tag tag : patient.getTags()) {
+                patientFields[next++] = tag.tagName;
+            }
+            for (Medicine medicine : patient.getMedicines()) {
+                patientFields[next++] = medicine.getMedicineName();
+            }
+            fields[i] = patientFields;
+        }
+    }
+
+    /**
+     * Parses the fields of every patient. The first field after the address is a tag and the rest are medicines,
+     * as every synthetic patient has one tag.
+     */
+    @Benchmark
+    public void parseFields(Blackhole blackhole) throws ParseException {
+        for (String[] patientFields : fields) {
+            blackhole.consume(ParserUtil.parseName(patientFields[0]));
+            blackhole.consume(ParserUtil.parsePhone(patientFields[1]));
+            blackhole.consume(ParserUtil.parseEmail(patientFields[2]));
+            blackhole.consume(ParserUtil.parseAddress(patientFields[3]));
+            blackhole.consume(ParserUtil.parseTag(patientFields[4]));
+            for (int i = 5; i < patientFields.length; i++) {
+                blackhole.consume(ParserUtil.parseMed(patientFields[i]));
+            }
+        }
+    }
+
+}
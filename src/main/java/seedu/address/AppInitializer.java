@@ -0,0 +1,247 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, storage and model of the application, which are shared by the JavaFX application and the
+ * headless one.
+ */
+public class AppInitializer {
+
+    /**
+     * How the address book was read from its data file.
+     */
+    public enum DataLoadStatus {
+        /** The data file was read. */
+        LOADED,
+        /** There was no data file. */
+        MISSING,
+        /** The data file could not be read, so an empty address book was used instead. */
+        FAILED
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private Config config;
+    private Storage storage;
+    private Model model;
+    private DataLoadStatus dataLoadStatus;
+
+    /**
+     * Reads the config, user prefs and address book chosen by {@code appParameters}.
+     * If there is no address book yet, sample data is used.
+     */
+    public void init(AppParameters appParameters) {
+        init(appParameters, true);
+    }
+
+    /**
+     * Reads the config, user prefs and address book chosen by {@code appParameters}.
+     * If there is no address book yet, sample data is used if {@code isSampleDataUsed} is true, or an empty
+     * address book otherwise.
+     */
+    public void init(AppParameters appParameters, boolean isSampleDataUsed) {
+        config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs, isSampleDataUsed);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public DataLoadStatus getDataLoadStatus() {
+        return dataLoadStatus;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * If {@code storage}'s address book is not found, the data from the sample address book will be used instead
+     * if {@code isSampleDataUsed} is true, or an empty address book otherwise.
+     * An empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, boolean isSampleDataUsed) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            dataLoadStatus = addressBookOptional.isPresent() ? DataLoadStatus.LOADED : DataLoadStatus.MISSING;
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + (isSampleDataUsed ? " populated with a sample patient list." : "."));
+            }
+            initialData = addressBookOptional.orElseGet(isSampleDataUsed
+                    ? SampleDataUtil::getSampleAddressBook : AddressBook::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty patient list.");
+            dataLoadStatus = DataLoadStatus.FAILED;
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file at {@code filePath},
+     * in the storage mode chosen in {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path filePath) {
+        logger.info("Using storage mode : " + config.getStorageMode());
+        switch (config.getStorageMode()) {
+        case JOURNAL:
+            return new JournaledAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(initBinaryFile(filePath));
+        case MAPPED:
+            if (isWindows()) {
+                logger.warning("Storage mode MAPPED is not supported on Windows, which cannot replace a mapped"
+                        + " data file when saving. Using storage mode BINARY instead.");
+                return new BinaryAddressBookStorage(initBinaryFile(filePath));
+            }
+            return new MappedAddressBookStorage(initBinaryFile(filePath));
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+    /**
+     * Returns the path of the binary data file next to the json data file at {@code jsonPath}.
+     * If there is no binary file yet, the data in the json file, if any, is imported into it.
+     */
+    private Path initBinaryFile(Path jsonPath) {
+        Path binaryPath = AddressBookFormatConverter.withExtension(jsonPath,
+                AddressBookFormatConverter.BINARY_EXTENSION);
+        if (!Files.exists(binaryPath) && Files.exists(jsonPath)) {
+            try {
+                AddressBookFormatConverter.convert(jsonPath, binaryPath);
+                logger.info("Imported " + jsonPath + " into " + binaryPath);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not import " + jsonPath + " into " + binaryPath + ": " + e);
+            }
+        }
+        return binaryPath;
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
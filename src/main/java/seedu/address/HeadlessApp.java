@@ -0,0 +1,263 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a window, executing the commands in a script file or in the standard input.
+ * The feedback of each command is written to the standard output and errors to the standard error.
+ * The address book is saved once all commands have run, and also after every few commands if a checkpoint interval
+ * is given. Alternatively, the commands can be run atomically, as a single batch that makes no changes if any of its
+ * commands fails.
+ * Unlike the JavaFX application, this does not run if the data file could not be read, so that a script cannot
+ * overwrite it, and it starts with an empty address book rather than sample data if there is no data file.
+ */
+public class HeadlessApp {
+
+    /** The parameter that makes {@code Main} start this application instead of the JavaFX one. */
+    public static final String HEADLESS_PARAMETER = "--headless";
+    /** The parameter that makes all the commands run as a single batch. */
+    public static final String ATOMIC_PARAMETER = "--atomic";
+
+    public static final String MESSAGE_LINE_ERROR = "Line %d: %s";
+    public static final String MESSAGE_INVALID_SCRIPT = "Invalid script file: %s";
+    public static final String MESSAGE_READ_ERROR = "Could not read the commands: %s";
+    public static final String MESSAGE_READ_ERROR_AFTER_LINE = "Could not read the commands after line %d: %s";
+    public static final String MESSAGE_DATA_NOT_LOADED =
+            "Could not read the data file %s. No commands were run, so that it is not overwritten.";
+    public static final String MESSAGE_INVALID_CHECKPOINT =
+            "Invalid checkpoint interval: %s. It should be a positive number of commands.";
+
+    /** Lines starting with this are comments and are not executed. */
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final LogicManager logic;
+    private final int checkpointInterval;
+    private final boolean isAtomic;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands through {@code logic}.
+     * The address book is also saved after every {@code checkpointInterval} commands, unless it is 0.
+     */
+    public HeadlessApp(LogicManager logic, int checkpointInterval) {
+        this(logic, checkpointInterval, false);
+    }
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands through {@code logic}.
+     * If {@code isAtomic} is true, all the commands are executed as a single batch, and {@code checkpointInterval}
+     * is ignored. Otherwise, the address book is also saved after every {@code checkpointInterval} commands,
+     * unless it is 0.
+     */
+    public HeadlessApp(LogicManager logic, int checkpointInterval, boolean isAtomic) {
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.isAtomic = isAtomic;
+    }
+
+    /**
+     * Runs the application and exits with status 0 if every command succeeded and the address book was saved,
+     * or 1 otherwise.
+     * Besides the {@code --config} parameter of the JavaFX application, takes {@code --script=FILE} to read commands
+     * from {@code FILE} instead of the standard input, {@code --checkpoint=N} to save after every {@code N}
+     * commands and {@code --atomic} to run all the commands as a single batch.
+     */
+    public static void main(String[] args) {
+        System.exit(launch(args));
+    }
+
+    /**
+     * Runs the application with the command-line arguments {@code args} and returns its exit status.
+     */
+    static int launch(String[] args) {
+        Map<String, String> namedParameters = parseNamedParameters(args);
+        PrintWriter out = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        PrintWriter err = new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8), true);
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        int checkpointInterval = 0;
+        if (checkpointParameter != null) {
+            try {
+                checkpointInterval = Integer.parseInt(checkpointParameter);
+            } catch (NumberFormatException e) {
+                checkpointInterval = -1;
+            }
+            if (checkpointInterval <= 0) {
+                err.println(String.format(MESSAGE_INVALID_CHECKPOINT, checkpointParameter));
+                return 1;
+            }
+        }
+
+        String scriptParameter = namedParameters.get("script");
+        if (scriptParameter != null && !FileUtil.isValidPath(scriptParameter)) {
+            err.println(String.format(MESSAGE_INVALID_SCRIPT, scriptParameter));
+            return 1;
+        }
+
+        AppInitializer initializer = new AppInitializer();
+        initializer.init(AppParameters.parse(namedParameters), false);
+        if (initializer.getDataLoadStatus() == AppInitializer.DataLoadStatus.FAILED) {
+            err.println(String.format(MESSAGE_DATA_NOT_LOADED, initializer.getStorage().getAddressBookFilePath()));
+            return 1;
+        }
+        LogicManager logic = new LogicManager(initializer.getModel(), initializer.getStorage(), false);
+        HeadlessApp app = new HeadlessApp(logic, checkpointInterval,
+                Arrays.asList(args).contains(ATOMIC_PARAMETER));
+
+        try (BufferedReader input = scriptParameter != null
+                ? Files.newBufferedReader(Paths.get(scriptParameter), StandardCharsets.UTF_8)
+                : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            return app.run(input, out, err) == 0 ? 0 : 1;
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_READ_ERROR, e));
+            return 1;
+        } finally {
+            out.flush();
+        }
+    }
+
+    /**
+     * Executes each command in {@code input}, one per line, until the input ends or an exit command is executed,
+     * then saves the address book.
+     * Blank lines and comments are skipped. A command that fails does not stop the commands after it.
+     * If {@code input} cannot be read to its end, the commands read so far are still saved.
+     *
+     * @return The number of commands that failed, counting a failed save and a failed read as one each.
+     * @throws IOException if the commands are run atomically and {@code input} could not be read.
+     */
+    public int run(BufferedReader input, PrintWriter out, PrintWriter err) throws IOException {
+        if (isAtomic) {
+            return runAtomically(input, out, err);
+        }
+
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failureCount = 0;
+        String line;
+        while (true) {
+            try {
+                line = input.readLine();
+            } catch (IOException e) {
+                // the commands that were read have been run, so they are still saved
+                err.println(String.format(MESSAGE_READ_ERROR_AFTER_LINE, lineNumber, e));
+                failureCount++;
+                break;
+            }
+            if (line == null) {
+                break;
+            }
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+                failureCount++;
+            }
+
+            if (checkpointInterval > 0 && commandCount % checkpointInterval == 0 && !save(lineNumber, err)) {
+                failureCount++;
+            }
+        }
+
+        if (!save(lineNumber, err)) {
+            failureCount++;
+        }
+        logger.info("Executed " + commandCount + " commands with " + failureCount + " failures");
+        return failureCount;
+    }
+
+    /**
+     * Executes all the commands in {@code input} as a single batch, then saves the address book.
+     * Blank lines and comments are skipped. If a command fails, no changes are made.
+     *
+     * @return 1 if a command failed or the address book could not be saved, or 0 otherwise.
+     * @throws IOException if {@code input} could not be read.
+     */
+    private int runAtomically(BufferedReader input, PrintWriter out, PrintWriter err) throws IOException {
+        List<String> commandTexts = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (!commandText.isEmpty() && !commandText.startsWith(COMMENT_PREFIX)) {
+                commandTexts.add(commandText);
+            }
+        }
+
+        try {
+            for (CommandResult commandResult : logic.executeBatch(commandTexts)) {
+                out.println(commandResult.getFeedbackToUser());
+            }
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return 1;
+        }
+        logger.info("Executed a batch of " + commandTexts.size() + " commands");
+        return save(lineNumber, err) ? 0 : 1;
+    }
+
+    /**
+     * Saves the address book, and reports any error against the line at {@code lineNumber}.
+     *
+     * @return Whether the address book was saved.
+     */
+    private boolean save(int lineNumber, PrintWriter err) {
+        try {
+            logic.save();
+            return true;
+        } catch (CommandException e) {
+            err.println(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Returns the parameters in {@code args} of the form {@code --name=value}, as a map from each name to its value.
+     * Other arguments are ignored.
+     */
+    static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+}
@@ -14,9 +14,24 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * Ways in which the address book data file can be kept on disk.
+     */
+    public enum StorageMode {
+        /** A json file that is rewritten in full on every save. */
+        JSON,
+        /** A json snapshot plus an append-only journal of changes. */
+        JOURNAL,
+        /** A compact binary file that is rewritten in full on every save. */
+        BINARY,
+        /** The same binary file as {@code BINARY}, memory-mapped and decoded as patients are used. */
+        MAPPED
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageMode storageMode = StorageMode.JSON;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +49,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +70,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(storageMode, otherConfig.storageMode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageMode);
     }
 
     @Override
@@ -60,6 +84,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("storageMode", storageMode)
                 .toString();
     }
 
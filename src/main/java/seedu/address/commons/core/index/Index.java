@@ -62,6 +62,11 @@ public class Index {
         return zeroBasedIndex == otherIndex.zeroBasedIndex;
     }
 
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(zeroBasedIndex);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("zeroBasedIndex", zeroBasedIndex).toString();
@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set that keeps its elements in a plain array, for sets that are small but kept in large numbers.
+ * Lookups scan the array, so it should only hold a handful of elements.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class ArraySet<E> extends AbstractSet<E> {
+
+    private static final ArraySet<?> EMPTY = new ArraySet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private ArraySet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns an {@code ArraySet} of the distinct elements of {@code items}, which must not contain null.
+     * The elements are kept in the order a {@code HashSet} of them would iterate in.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ArraySet<E> copyOf(Collection<? extends E> items) {
+        requireNonNull(items);
+        if (items instanceof ArraySet) {
+            return (ArraySet<E>) items;
+        }
+        if (items.isEmpty()) {
+            return (ArraySet<E>) EMPTY;
+        }
+        CollectionUtil.requireAllNonNull(items);
+        return new ArraySet<>(new HashSet<>(items).toArray());
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Object element : elements) {
+            if (element.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    // Mutators throw even when they would leave the set unchanged, as with Collections#unmodifiableSet
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -9,9 +9,18 @@ import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
+ * The character checks here let the model fields check their values by scanning them the way their
+ * {@code VALIDATION_REGEX} would match them, which is much faster than matching the regex.
  */
 public class StringUtil {
 
+    /**
+     * The Soundex digit of each letter from A to Z. Vowels are 0, and H and W are '-' as they are skipped
+     * without separating letters with the same digit.
+     */
+    private static final String SOUNDEX_DIGITS = "0123012-02245501262301-202";
+    private static final int SOUNDEX_LENGTH = 4;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -39,6 +48,78 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, which is the smallest number of
+     * characters that must be inserted, deleted or substituted to turn one into the other. Case is significant.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alice") == 0
+     *       editDistance("alice", "alcie") == 2 //two substitutions
+     *       editDistance("alice", "alic") == 1 //one deletion
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // Only the previous row of the dynamic programming table is needed to compute the next one
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}, which is the same for words that sound alike in English.
+     *   The code is the first letter followed by three digits for the consonants after it. Case and any
+     *   characters other than the letters A to Z are ignored, and a word with no such letters has an empty code.
+     *   <br>examples:<pre>
+     *       soundex("Smith") == soundex("smyth") == "S530"
+     *       soundex("Ashcraft") == "A261"
+     *       soundex("Li") == "L000"
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String soundex(String word) {
+        requireNonNull(word);
+
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char previousDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != '0' && digit != '-' && digit != previousDigit) {
+                code.append(digit);
+            }
+            if (digit != '-') {
+                previousDigit = digit;
+            }
+        }
+
+        while (code.length() > 0 && code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -66,4 +147,51 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, which is what {@code \p{Alnum}} matches in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, which is what {@code \d} matches in a regex.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code s} is made up of only ASCII digits, and has between {@code minLength} and
+     * {@code maxLength} of them.
+     * This is a faster equivalent of matching {@code s} against {@code \d{minLength,maxLength}}.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAsciiDigits(String s, int minLength, int maxLength) {
+        int length = s.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, so that it is not matched by {@code .} in a regex.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
 }
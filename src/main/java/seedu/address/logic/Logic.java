@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in order as a single unit, saving the address book once after the last one.
+     * Every command is parsed before any is executed. If a command fails, the changes made to the address book by
+     * the commands before it are undone.
+     * @param commandTexts The commands as entered by the user.
+     * @return the results of the commands, in order.
+     * @throws CommandException If an error occurs during the execution of any command.
+     * @throws ParseException If an error occurs during the parsing of any command.
+     */
+    List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns the AddressBook.
      *
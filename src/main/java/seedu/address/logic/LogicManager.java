@@ -3,8 +3,12 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -16,6 +20,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.patient.Patient;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,19 +32,51 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_BATCH_COMMAND_FAILED = "Command %1$d of the batch failed, so no changes "
+            + "were made: %2$s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final AsyncAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
+    private final boolean isSavingAfterEachCommand;
+    private long savedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code saver} is not null, the address book is saved through it in the background, and a failed save is
+     * reported in the result of the next command.
+     */
+    public LogicManager(Model model, Storage storage, AsyncAddressBookSaver saver) {
+        this(model, storage, saver, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isSavingAfterEachCommand} is false, the address book is only saved when {@link #save()} is called.
+     */
+    public LogicManager(Model model, Storage storage, boolean isSavingAfterEachCommand) {
+        this(model, storage, null, isSavingAfterEachCommand);
+    }
+
+    private LogicManager(Model model, Storage storage, AsyncAddressBookSaver saver,
+            boolean isSavingAfterEachCommand) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        this.isSavingAfterEachCommand = isSavingAfterEachCommand;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -50,15 +87,128 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (!isSavingAfterEachCommand) {
+            return commandResult;
+        }
+        if (saver != null) {
+            return saveInBackground(commandResult);
+        }
+        save();
+        return commandResult;
+    }
+
+    @Override
+    public List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " COMMANDS]");
+
+        List<Command> commands = new ArrayList<>(commandTexts.size());
+        for (String commandText : commandTexts) {
+            try {
+                commands.add(addressBookParser.parseCommand(commandText));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_BATCH_COMMAND_FAILED, commands.size() + 1,
+                        pe.getMessage()), pe);
+            }
+        }
+
+        // Only references are copied, as patients are immutable
+        ObservableList<Patient> patientsBefore = FXCollections.observableArrayList(
+                model.getAddressBook().getPatientList());
+        long modificationCountBefore = model.getAddressBookModificationCount();
+        List<CommandResult> commandResults = new ArrayList<>(commands.size());
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            for (Command command : commands) {
+                commandResults.add(command.execute(model));
+            }
+        } catch (CommandException ce) {
+            rollBack(patientsBefore, modificationCountBefore);
+            throw new CommandException(String.format(MESSAGE_BATCH_COMMAND_FAILED, commandResults.size() + 1,
+                    ce.getMessage()), ce);
+        } catch (RuntimeException e) {
+            rollBack(patientsBefore, modificationCountBefore);
+            throw e;
+        }
+
+        if (!isSavingAfterEachCommand || commandResults.isEmpty()) {
+            return commandResults;
+        }
+        if (saver != null) {
+            int last = commandResults.size() - 1;
+            commandResults.set(last, saveInBackground(commandResults.get(last)));
+            return commandResults;
+        }
+        save();
+        return commandResults;
+    }
+
+    /**
+     * Restores the address book to {@code patientsBefore}, the patients it had when its modification count was
+     * {@code modificationCountBefore}.
+     */
+    private void rollBack(ObservableList<Patient> patientsBefore, long modificationCountBefore) {
+        if (model.getAddressBookModificationCount() == modificationCountBefore) {
+            return;
+        }
+        model.setAddressBook(() -> patientsBefore);
+        if (savedModificationCount == modificationCountBefore) {
+            // The restored address book is the one last saved, so it need not be saved again
+            savedModificationCount = model.getAddressBookModificationCount();
+        }
+        logger.info("Rolled back the changes of a failed batch of commands");
+    }
+
+    /**
+     * Saves the address book before returning if it has changed since it was last saved.
+     *
+     * @throws CommandException if the address book could not be saved.
+     */
+    public void save() throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
+
+        try {
+            if (saver != null) {
+                saver.save(model.getAddressBook());
+                saver.flush();
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+            }
+            savedModificationCount = modificationCount;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Requests a background save if the address book has changed, and adds the error of any background save
+     * that failed since the previous command to the feedback of {@code commandResult}.
+     */
+    private CommandResult saveInBackground(CommandResult commandResult) {
+        Optional<IOException> failure = saver.takeFailure();
+        if (failure.isPresent()) {
+            // Save again even if nothing changed, as the failed save may have held changes
+            savedModificationCount = -1;
+        }
+
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount != savedModificationCount) {
+            saver.save(model.getAddressBook());
+            savedModificationCount = modificationCount;
+        }
+
+        if (failure.isEmpty()) {
+            return commandResult;
+        }
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + getSaveErrorMessage(failure.get()),
+                commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
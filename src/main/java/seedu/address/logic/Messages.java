@@ -17,6 +17,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX = "The patient index "
             + "provided is invalid! \nPlease provide a valid patient index from the current "
             + "patient list.";
+    public static final String MESSAGE_INVALID_PATIENT_ID = "There is no patient with id %1$s.";
+    public static final String MESSAGE_NO_PATIENTS_DISPLAYED = "There are no patients in the current patient list.";
     public static final String MESSAGE_PATIENTS_LISTED_OVERVIEW = "%1$d patients listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
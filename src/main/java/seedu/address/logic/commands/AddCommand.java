@@ -9,6 +9,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -48,6 +52,12 @@ public class AddCommand extends Command {
     public static final String MESSAGE_DUPLICATE_PATIENT = "A patient with the same name already "
             + "exists in the patient list. Multiple patients with the same name are currently not"
             + " allowed in the list. Please kindly refer to our user guide for more details. ";
+    public static final String MESSAGE_POSSIBLE_DUPLICATE = "Note: %1$s sound(s) like the same name. "
+            + "Please check that this is not an existing patient.";
+    public static final String MESSAGE_MORE_SIMILAR_NAMES = "%1$s and %2$d more";
+
+    /** The most similar names listed in the note, so that a common-sounding name does not list thousands. */
+    static final int MAX_SIMILAR_NAMES_SHOWN = 5;
 
     private final Patient toAdd;
 
@@ -67,8 +77,24 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PATIENT);
         }
 
+        // Looked up before adding, so that the new patient is not among them
+        Set<Patient> similarPatients = model.getPatientsWithNameSoundingLike(toAdd.getName());
+        List<String> shownNames = similarPatients.stream()
+                .map(patient -> patient.getName().fullName)
+                .sorted()
+                .limit(MAX_SIMILAR_NAMES_SHOWN)
+                .collect(Collectors.toList());
+
         model.addPatient(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.getName()));
+        String feedback = String.format(MESSAGE_SUCCESS, toAdd.getName());
+        if (!shownNames.isEmpty()) {
+            String names = String.join(", ", shownNames);
+            if (similarPatients.size() > shownNames.size()) {
+                names = String.format(MESSAGE_MORE_SIMILAR_NAMES, names, similarPatients.size() - shownNames.size());
+            }
+            feedback += "\n" + String.format(MESSAGE_POSSIBLE_DUPLICATE, names);
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
@@ -2,10 +2,7 @@ package seedu.address.logic.commands;
 
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 
-import java.util.List;
-
 import seedu.address.commons.core.index.Index;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.patient.Patient;
@@ -17,15 +14,15 @@ public class DelLastVisitCommand extends Command {
     public static final String COMMAND_WORD = "delLastVisit";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the last visit of the patient identified "
-            + "by the index number used in the last patient listing."
+            + "by the index number used in the last patient listing, or by the patient id."
             + '\n'
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or id/ID "
             + '\n'
             + "Example: " + COMMAND_WORD + " 1 ";
 
     public static final String MESSAGE_NO_LAST_VISIT = "This patient does not currently have a last visit: %1$s";
 
-    private final Index index;
+    private final PatientTarget target;
 
     /**
      * Creates a {@code DelLastVisitCommand}.
@@ -33,7 +30,16 @@ public class DelLastVisitCommand extends Command {
      * @param ind The index of the patient to modify.
      */
     public DelLastVisitCommand(Index ind) {
-        index = ind;
+        this(PatientTarget.ofIndex(ind));
+    }
+
+    /**
+     * Creates a {@code DelLastVisitCommand}.
+     *
+     * @param target The patient to modify.
+     */
+    public DelLastVisitCommand(PatientTarget target) {
+        this.target = target;
     }
 
     /**
@@ -52,18 +58,12 @@ public class DelLastVisitCommand extends Command {
      *
      * @param model {@code Model} which the command should operate on.
      * @return The {@code CommandResult}.
-     * @throws CommandException if the index is out of range.
+     * @throws CommandException if the index is out of range or no patient has the id.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Patient> lastShownList = model.getFilteredPatientList();
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(
-                    Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
-        }
-
         // Create a new Patient with `null` last visit
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
+        Patient patientToEdit = target.resolve(model);
 
         if (patientToEdit.getLastVisit() == null) {
             throw new CommandException(String.format(MESSAGE_NO_LAST_VISIT, patientToEdit.getName()));
@@ -99,6 +99,6 @@ public class DelLastVisitCommand extends Command {
             return false;
         }
         DelLastVisitCommand o = (DelLastVisitCommand) other;
-        return index.equals(o.index);
+        return target.equals(o.target);
     }
 }
@@ -9,7 +9,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -37,8 +36,8 @@ public class EditCommand extends Command {
     public static final String COMMAND_WORD = "edit";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the patient identified "
-            + "by the index number used in the displayed patient list.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the displayed patient list, or by the patient id.\n"
+            + "Parameters: INDEX (must be a positive integer) or id/ID "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -56,7 +55,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_NO_RESULTING_CHANGE = "The inputted edit command does not result in any "
             + "changes to the specified patient.";
 
-    private final Index index;
+    private final PatientTarget target;
     private final EditPatientDescriptor editPatientDescriptor;
 
     /**
@@ -64,23 +63,25 @@ public class EditCommand extends Command {
      * @param editPatientDescriptor details to edit the patient with
      */
     public EditCommand(Index index, EditPatientDescriptor editPatientDescriptor) {
-        requireNonNull(index);
+        this(PatientTarget.ofIndex(index), editPatientDescriptor);
+    }
+
+    /**
+     * @param target the patient to edit
+     * @param editPatientDescriptor details to edit the patient with
+     */
+    public EditCommand(PatientTarget target, EditPatientDescriptor editPatientDescriptor) {
+        requireNonNull(target);
         requireNonNull(editPatientDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editPatientDescriptor = new EditPatientDescriptor(editPatientDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
-        }
-
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
+        Patient patientToEdit = target.resolve(model);
         Patient editedPatient = createEditedpatient(patientToEdit, editPatientDescriptor);
 
         if (!patientToEdit.isSamePatient(editedPatient) && model.hasPatient(editedPatient)) {
@@ -127,14 +128,14 @@ public class EditCommand extends Command {
         }
 
         EditCommand otherEditCommand = (EditCommand) other;
-        return index.equals(otherEditCommand.index)
+        return target.equals(otherEditCommand.target)
                 && editPatientDescriptor.equals(otherEditCommand.editPatientDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("index", target)
                 .add("editPatientDescriptor", editPatientDescriptor)
                 .toString();
     }
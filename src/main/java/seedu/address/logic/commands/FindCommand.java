@@ -1,14 +1,20 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.NameSimilarToKeywordsPredicate;
+import seedu.address.model.patient.Patient;
 
 /**
- * Finds and lists all patients in patient list whose name contains any of the argument keywords.
+ * Finds and lists all patients in patient list whose name contains any of the argument keywords,
+ * or who have the argument tags.
  * Keyword matching is case-insensitive.
  */
 public class FindCommand extends Command {
@@ -18,11 +24,19 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "To also find names spelt like the keywords, closest first, give /fuzzy and optionally the most "
+            + "characters that may differ (default " + NameSimilarToKeywordsPredicate.DEFAULT_MAX_DISTANCE + ").\n"
+            + "Parameters: /fuzzy KEYWORD [MORE_KEYWORDS]... [" + PREFIX_DISTANCE + "MAX_DISTANCE]\n"
+            + "Example: " + COMMAND_WORD + " /fuzzy alcie " + PREFIX_DISTANCE + "1\n"
+            + "To find patients by tag, give the tags instead. Patients must have all of the tags, "
+            + "or any of them if /any is given.\n"
+            + "Parameters: [/any] " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " /any " + PREFIX_TAG + "diabetic " + PREFIX_TAG + "elderly";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Patient> predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(Predicate<Patient> predicate) {
         this.predicate = predicate;
     }
 
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.PatientTakesMedicinesPredicate;
+
+/**
+ * Finds and lists all patients in patient list who are prescribed any of the argument medicines,
+ * along with the number of patients on each medicine.
+ * Medicine matching is case-insensitive.
+ */
+public class FindMedCommand extends Command {
+
+    public static final String COMMAND_WORD = "findMed";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients who are prescribed any of "
+            + "the specified medicines (case-insensitive) and displays them as a list with index numbers, "
+            + "along with the number of patients on each medicine.\n"
+            + "Parameters: " + PREFIX_MEDICINE + "MEDICINE [" + PREFIX_MEDICINE + "MORE_MEDICINES]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MEDICINE + "Metformin " + PREFIX_MEDICINE + "Insulin";
+
+    public static final String MESSAGE_MEDICINE_COUNT = "%1$s: %2$d";
+
+    private final List<Medicine> medicines;
+
+    /**
+     * @param medicines A non-empty list of distinct medicines to look for.
+     */
+    public FindMedCommand(List<Medicine> medicines) {
+        requireNonNull(medicines);
+        this.medicines = medicines;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPatientList(new PatientTakesMedicinesPredicate(medicines));
+        String counts = medicines.stream()
+                .map(medicine -> String.format(MESSAGE_MEDICINE_COUNT, medicine.getMedicineName(),
+                        model.countPatientsOnMedicine(medicine)))
+                .collect(Collectors.joining(", "));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW, model.getFilteredPatientList().size())
+                + "\n" + counts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindMedCommand)) {
+            return false;
+        }
+
+        FindMedCommand otherFindMedCommand = (FindMedCommand) other;
+        return medicines.equals(otherFindMedCommand.medicines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("medicines", medicines)
+                .toString();
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Finds and lists all patients in patient list whose last visit falls within a date range,
+ * or who have never visited.
+ */
+public class FindVisitCommand extends Command {
+
+    public static final String COMMAND_WORD = "findVisit";
+
+    public static final String NEVER_VISITED_FLAG = "/never";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose last visit is within "
+            + "the specified dates (both inclusive), or who have never visited, and displays them as a list "
+            + "with index numbers.\n"
+            + "Parameters: [" + PREFIX_FROM + "DATE] [" + PREFIX_TO + "DATE] (at least one must be given) or "
+            + NEVER_VISITED_FLAG + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TO + "2024-12-31\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2024-01-01 " + PREFIX_TO + "2024-06-30\n"
+            + "Example: " + COMMAND_WORD + " " + NEVER_VISITED_FLAG;
+
+    private final Predicate<Patient> predicate;
+
+    public FindVisitCommand(Predicate<Patient> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPatientList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindVisitCommand)) {
+            return false;
+        }
+
+        FindVisitCommand otherFindVisitCommand = (FindVisitCommand) other;
+        return predicate.equals(otherFindVisitCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -4,10 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 
-import java.util.List;
-
 import seedu.address.commons.core.index.Index;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.patient.LastVisit;
@@ -21,15 +18,17 @@ public class LastVisitCommand extends Command {
     public static final String COMMAND_WORD = "lastVisit";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the last visit of the patient identified "
-            + "by the index number used in the last patient listing. "
-            + "Existing last visit will be overwritten by the input.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the last patient listing, or by the patient id. "
+            + "Existing last visit will be overwritten by the input. "
+            + "Use a range of indexes such as 2-5, or 'all', for several patients in the last patient listing.\n"
+            + "Parameters: INDEX (must be a positive integer), id/ID, FIRST-LAST or all "
             + PREFIX_DATE + "[LAST-VISIT-DATE]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_DATE + "2025-05-01";
 
     public static final String MESSAGE_ADD_LAST_VISIT_SUCCESS = "Set last visit of patient %1$s to %2$s";
-    private final Index index;
+    public static final String MESSAGE_BULK_ADD_LAST_VISIT_SUCCESS = "Set last visit of %1$d patient(s) to %2$s";
+    private final PatientTarget target;
     private final LastVisit lastVisit;
 
     /**
@@ -37,20 +36,31 @@ public class LastVisitCommand extends Command {
      * @param lastVisit of the patient to be updated to
      */
     public LastVisitCommand(Index index, LastVisit lastVisit) {
-        requireAllNonNull(index, lastVisit);
+        this(PatientTarget.ofIndex(index), lastVisit);
+    }
+
+    /**
+     * @param target the patient to edit the Last Visit of
+     * @param lastVisit of the patient to be updated to
+     */
+    public LastVisitCommand(PatientTarget target, LastVisit lastVisit) {
+        requireAllNonNull(target, lastVisit);
 
-        this.index = index;
+        this.target = target;
         this.lastVisit = lastVisit;
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        if (!target.isSingle()) {
+            int updatedCount = target.editAll(model, patient -> lastVisit.equals(patient.getLastVisit())
+                    ? null
+                    : new Patient(patient.getName(), patient.getPhone(), patient.getEmail(), patient.getAddress(),
+                            lastVisit, patient.getTags(), patient.getMedicines()));
+            model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+            return new CommandResult(String.format(MESSAGE_BULK_ADD_LAST_VISIT_SUCCESS, updatedCount,
+                    lastVisit.lastVisitDate));
         }
-
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
+        Patient patientToEdit = target.resolve(model);
         Patient editedpatient = new Patient(patientToEdit.getName(), patientToEdit.getPhone(), patientToEdit.getEmail(),
                 patientToEdit.getAddress(), lastVisit, patientToEdit.getTags(), patientToEdit.getMedicines());
 
@@ -90,7 +100,7 @@ public class LastVisitCommand extends Command {
 
         // state check
         LastVisitCommand e = (LastVisitCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && lastVisit.equals(e.lastVisit);
     }
 }
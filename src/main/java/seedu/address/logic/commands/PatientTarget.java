@@ -0,0 +1,198 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+
+/**
+ * Identifies the patient a command acts on, either by its index in the displayed patient list
+ * or by its patient id, which finds the patient even if it is not displayed.
+ * Commands that can act on several patients at once may also be given a range of indexes in the displayed patient
+ * list, or all the displayed patients.
+ */
+public class PatientTarget {
+
+    /** The index of the patient, or the first index of a range. */
+    private final Index index;
+    /** The last index of a range, which is null for any other target. */
+    private final Index lastIndex;
+    private final PatientId id;
+    private final boolean isAllShown;
+
+    private PatientTarget(Index index, Index lastIndex, PatientId id, boolean isAllShown) {
+        this.index = index;
+        this.lastIndex = lastIndex;
+        this.id = id;
+        this.isAllShown = isAllShown;
+    }
+
+    /**
+     * Returns a target for the patient at {@code index} in the displayed patient list.
+     */
+    public static PatientTarget ofIndex(Index index) {
+        requireNonNull(index);
+        return new PatientTarget(index, null, null, false);
+    }
+
+    /**
+     * Returns a target for the patient with the given {@code id}.
+     */
+    public static PatientTarget ofId(PatientId id) {
+        requireNonNull(id);
+        return new PatientTarget(null, null, id, false);
+    }
+
+    /**
+     * Returns a target for the patients from {@code first} to {@code last}, both inclusive, in the displayed
+     * patient list.
+     *
+     * @throws IllegalArgumentException if {@code first} is after {@code last}.
+     */
+    public static PatientTarget ofRange(Index first, Index last) {
+        requireAllNonNull(first, last);
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new IllegalArgumentException("The first index of a range must not be after the last index");
+        }
+        return new PatientTarget(first, last, null, false);
+    }
+
+    /**
+     * Returns a target for all the patients in the displayed patient list.
+     */
+    public static PatientTarget ofAllShown() {
+        return new PatientTarget(null, null, null, true);
+    }
+
+    /**
+     * Returns true if this target identifies a single patient, by its index or by its id.
+     */
+    public boolean isSingle() {
+        return lastIndex == null && !isAllShown;
+    }
+
+    /**
+     * Returns the patient in {@code model} that this target identifies.
+     *
+     * @throws CommandException if there is no such patient.
+     */
+    public Patient resolve(Model model) throws CommandException {
+        return resolve(model, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+    }
+
+    /**
+     * Returns the patient in {@code model} that this target identifies, like {@link #resolve(Model)},
+     * but with {@code invalidIndexMessage} as the message if the index is out of range.
+     *
+     * @throws CommandException if there is no such patient.
+     */
+    public Patient resolve(Model model, String invalidIndexMessage) throws CommandException {
+        requireNonNull(model);
+        assert isSingle();
+        if (id != null) {
+            return model.getPatientById(id).orElseThrow(() ->
+                    new CommandException(String.format(Messages.MESSAGE_INVALID_PATIENT_ID, id)));
+        }
+
+        List<Patient> lastShownList = model.getFilteredPatientList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(invalidIndexMessage);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    /**
+     * Returns the patients in {@code model} that this target identifies, in the order they are displayed.
+     *
+     * @throws CommandException if any of the patients does not exist, or if this target is all the displayed
+     *     patients but none are displayed.
+     */
+    public List<Patient> resolveAll(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isSingle()) {
+            return List.of(resolve(model));
+        }
+
+        List<Patient> lastShownList = model.getFilteredPatientList();
+        if (isAllShown) {
+            if (lastShownList.isEmpty()) {
+                throw new CommandException(Messages.MESSAGE_NO_PATIENTS_DISPLAYED);
+            }
+            return new ArrayList<>(lastShownList);
+        }
+        if (lastIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        }
+        return new ArrayList<>(lastShownList.subList(index.getZeroBased(), lastIndex.getZeroBased() + 1));
+    }
+
+    /**
+     * Replaces each patient in {@code model} that this target identifies with the patient {@code edit} returns for
+     * it, in a single update of the address book. Patients for which {@code edit} returns null are left unchanged.
+     *
+     * @return The number of patients replaced.
+     * @throws CommandException if the patients could not be resolved, as in {@link #resolveAll(Model)}.
+     */
+    public int editAll(Model model, UnaryOperator<Patient> edit) throws CommandException {
+        List<Patient> patients = resolveAll(model);
+        List<Patient> targets = new ArrayList<>(patients.size());
+        List<Patient> editedPatients = new ArrayList<>(patients.size());
+        for (Patient patient : patients) {
+            Patient editedPatient = edit.apply(patient);
+            if (editedPatient != null) {
+                targets.add(patient);
+                editedPatients.add(editedPatient);
+            }
+        }
+        if (!targets.isEmpty()) {
+            model.setPatients(targets, editedPatients);
+        }
+        return targets.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PatientTarget)) {
+            return false;
+        }
+
+        PatientTarget otherTarget = (PatientTarget) other;
+        return Objects.equals(index, otherTarget.index) && Objects.equals(lastIndex, otherTarget.lastIndex)
+                && Objects.equals(id, otherTarget.id) && isAllShown == otherTarget.isAllShown;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, lastIndex, id, isAllShown);
+    }
+
+    @Override
+    public String toString() {
+        if (isAllShown) {
+            return new ToStringBuilder(this).add("allShown", true).toString();
+        }
+        if (lastIndex != null) {
+            return new ToStringBuilder(this).add("first", index).add("last", lastIndex).toString();
+        }
+        if (index != null) {
+            return index.toString();
+        }
+        return new ToStringBuilder(this).add("id", id).toString();
+    }
+}
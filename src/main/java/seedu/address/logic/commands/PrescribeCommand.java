@@ -5,12 +5,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.medicine.Medicine;
@@ -18,26 +16,28 @@ import seedu.address.model.patient.Patient;
 
 /**
  * Adds one or more medications to an existing patient in the address book.
- * This command takes an index representing a patient in the displayed list
+ * This command takes an index representing a patient in the displayed list, or a patient id,
  * and adds the specified medicine(s) to that patient's medical record.
  */
 public class PrescribeCommand extends Command {
     public static final String COMMAND_WORD = "prescribe";
 
     public static final String MESSAGE_ADD_MED_SUCCESS = "Added medication(s) %1$s to patient: %2$s";
+    public static final String MESSAGE_BULK_ADD_MED_SUCCESS = "Added medication(s) %1$s to %2$d patient(s)";
     public static final String MESSAGE_DUPLICATE_MED = "This patient already has medicine: %1$s";
     public static final String REPEATED_MED_ERROR = "Medicine [%1$s] was entered multiple times.\n"
             + "Duplicate inputs are not allowed.";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": adds new medication(s) to the patient specified "
-            + "by the index number used in the last patient listing. "
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the last patient listing, or by the patient id. "
+            + "Use a range of indexes such as 2-5, or 'all', for several patients in the last patient listing. "
+            + "Parameters: INDEX (must be a positive integer), id/ID, FIRST-LAST or all "
             + PREFIX_MEDICINE + "[medicine name]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_MEDICINE + "Paracetamol";
 
-    private final Index index;
+    private final PatientTarget target;
     private final Set<Medicine> medicinesToAdd;
 
     /**
@@ -45,21 +45,26 @@ public class PrescribeCommand extends Command {
      * @param medicinesToAdd (A set of medicines to be added to the patient)
      */
     public PrescribeCommand(Index index, Set<Medicine> medicinesToAdd) {
-        requireAllNonNull(index, medicinesToAdd);
+        this(PatientTarget.ofIndex(index), medicinesToAdd);
+    }
+
+    /**
+     * @param target the patient to add the medication to
+     * @param medicinesToAdd (A set of medicines to be added to the patient)
+     */
+    public PrescribeCommand(PatientTarget target, Set<Medicine> medicinesToAdd) {
+        requireAllNonNull(target, medicinesToAdd);
 
-        this.index = index;
+        this.target = target;
         this.medicinesToAdd = medicinesToAdd;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Patient> filteredPatientList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= filteredPatientList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        if (!target.isSingle()) {
+            return executeForAll(model);
         }
-
-        Patient patientToEdit = filteredPatientList.get(index.getZeroBased());
+        Patient patientToEdit = target.resolve(model);
         Set<Medicine> currentMedicines = patientToEdit.getMedicines();
 
         assert currentMedicines != null;
@@ -71,11 +76,35 @@ public class PrescribeCommand extends Command {
             }
         }
 
+        Patient editedPatient = addMedicines(patientToEdit);
+
+        model.setPatient(patientToEdit, editedPatient);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+
+        return new CommandResult(generateSuccessMessage(editedPatient));
+    }
+
+    /**
+     * Adds the medicines to every patient the target identifies, skipping those that already have all of them.
+     */
+    private CommandResult executeForAll(Model model) throws CommandException {
+        int prescribedCount = target.editAll(model, patient -> patient.getMedicines().containsAll(medicinesToAdd)
+                ? null
+                : addMedicines(patient));
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        return new CommandResult(String.format(MESSAGE_BULK_ADD_MED_SUCCESS, joinMedicines(), prescribedCount));
+    }
+
+    /**
+     * Creates and returns a {@code Patient} with the details of {@code patientToEdit}
+     * and the medicines to add.
+     */
+    private Patient addMedicines(Patient patientToEdit) {
         // Create a new set of medicines
-        Set<Medicine> updatedMedicines = new HashSet<>(currentMedicines);
+        Set<Medicine> updatedMedicines = new HashSet<>(patientToEdit.getMedicines());
         updatedMedicines.addAll(medicinesToAdd);
 
-        Patient editedPatient = new Patient(
+        return new Patient(
                 patientToEdit.getName(),
                 patientToEdit.getPhone(),
                 patientToEdit.getEmail(),
@@ -83,11 +112,6 @@ public class PrescribeCommand extends Command {
                 patientToEdit.getLastVisit(),
                 patientToEdit.getTags(),
                 updatedMedicines);
-
-        model.setPatient(patientToEdit, editedPatient);
-        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
-
-        return new CommandResult(generateSuccessMessage(editedPatient));
     }
 
     /**
@@ -95,14 +119,20 @@ public class PrescribeCommand extends Command {
      * added to {@code patientToEdit}.
      */
     private String generateSuccessMessage(Patient patientToEdit) {
+        return String.format(MESSAGE_ADD_MED_SUCCESS,
+                joinMedicines(),
+                patientToEdit.getName());
+    }
+
+    /**
+     * Returns the medicines to add, separated by spaces.
+     */
+    private String joinMedicines() {
         StringBuilder medicinesToAddStringBuilder = new StringBuilder();
         for (Medicine medicine : medicinesToAdd) {
             medicinesToAddStringBuilder.append(medicine.toString()).append(" ");
         }
-        String medicinesToAddString = medicinesToAddStringBuilder.toString().trim();
-        return String.format(MESSAGE_ADD_MED_SUCCESS,
-                medicinesToAddString,
-                patientToEdit.getName());
+        return medicinesToAddStringBuilder.toString().trim();
     }
 
     @Override
@@ -116,6 +146,6 @@ public class PrescribeCommand extends Command {
             return false;
         }
 
-        return index.equals(e.index) && Objects.equals(medicinesToAdd, e.medicinesToAdd);
+        return target.equals(e.target) && Objects.equals(medicinesToAdd, e.medicinesToAdd);
     }
 }
@@ -3,11 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.patient.Patient;
@@ -20,12 +18,14 @@ public class TagCommand extends Command {
     public static final String COMMAND_WORD = "tag";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds the listed tags to the patient identified by the index "
-            + "number used in the last patient listing."
+            + "number used in the last patient listing, or by the patient id. "
+            + "Use a range of indexes such as 2-5, or 'all', to tag several patients in the last patient listing."
             + '\n'
-            + "Parameters: INDEX t/tag [t/more_tags]..."
+            + "Parameters: INDEX (or id/ID, FIRST-LAST, all) t/tag [t/more_tags]..."
             + '\n'
             + "Example: " + COMMAND_WORD + " 3 t/High Blood Pressure "
-            + "t/Seafood Allergy";
+            + "t/Seafood Allergy"
+            + "\nExample: " + COMMAND_WORD + " all t/FluShot2026";
     public static final String NO_TAG_INCLUDED_ERROR =
             "Please add at least one tag when using the tag command."
             + '\n'
@@ -35,8 +35,9 @@ public class TagCommand extends Command {
             + "Example: " + COMMAND_WORD + " 2 t/Diabetes";
     public static final String REPEATED_TAG_ERROR =
             "Tag [%1$s] was inputted multiple times";
+    public static final String MESSAGE_BULK_SUCCESS = "Tags %1$s successfully added to %2$d patient(s)";
 
-    private final Index index;
+    private final PatientTarget target;
     private final HashSet<Tag> tagsToAdd;
 
     /**
@@ -46,7 +47,17 @@ public class TagCommand extends Command {
      * @param tagsToAdd The set of tags to add.
      */
     public TagCommand(Index index, HashSet<Tag> tagsToAdd) {
-        this.index = index;
+        this(PatientTarget.ofIndex(index), tagsToAdd);
+    }
+
+    /**
+     * Creates a {@code TagCommand}.
+     *
+     * @param target The patient to modify.
+     * @param tagsToAdd The set of tags to add.
+     */
+    public TagCommand(PatientTarget target, HashSet<Tag> tagsToAdd) {
+        this.target = target;
         this.tagsToAdd = tagsToAdd;
     }
 
@@ -58,14 +69,21 @@ public class TagCommand extends Command {
      */
     private static String generateSuccessMessage(Patient patient,
               HashSet<Tag> tagsToAdd) {
-        HashSet<String> tagStrsToAdd = new HashSet<String>();
-        for (Tag t : tagsToAdd) {
-            tagStrsToAdd.add(t.toString());
-        }
-        return "Tags " + String.join(", ", tagStrsToAdd)
+        return "Tags " + joinTags(tagsToAdd)
                 + " successfully added to " + patient.getName();
     }
 
+    /**
+     * Returns the tags as a comma-separated String.
+     */
+    static String joinTags(Set<Tag> tags) {
+        HashSet<String> tagStrs = new HashSet<String>();
+        for (Tag t : tags) {
+            tagStrs.add(t.toString());
+        }
+        return String.join(", ", tagStrs);
+    }
+
     private static String generateExistingTagErrMsg(
         HashSet<Tag> duplicateTags, Patient patient) {
         String tagsStr = "";
@@ -80,20 +98,15 @@ public class TagCommand extends Command {
      *
      * @param model {@code Model} which the command should operate on.
      * @return The {@code CommandResult}.
-     * @throws CommandException if the index is out of range.
+     * @throws CommandException if the index is out of range or no patient has the id.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        // Index must be valid
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(
-                    Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        if (!target.isSingle()) {
+            return executeForAll(model);
         }
-
-        Patient patient = lastShownList.get(index.getZeroBased());
+        Patient patient = target.resolve(model);
         Set<Tag> patientTags = patient.getTags();
 
         // Do not add already existing tags
@@ -118,6 +131,17 @@ public class TagCommand extends Command {
         );
     }
 
+    /**
+     * Adds the tags to every patient the target identifies, skipping those that already have all of them.
+     */
+    private CommandResult executeForAll(Model model) throws CommandException {
+        int taggedCount = target.editAll(model, patient -> patient.getTags().containsAll(tagsToAdd)
+                ? null
+                : addTags(patient, tagsToAdd));
+        model.updateFilteredPatientList(Model.PREDICATE_SHOW_ALL_PATIENTS);
+        return new CommandResult(String.format(MESSAGE_BULK_SUCCESS, joinTags(tagsToAdd), taggedCount));
+    }
+
     /**
      * Adds the list of tags to the given patient.
      *
@@ -154,6 +178,6 @@ public class TagCommand extends Command {
             return false;
         }
         TagCommand o = (TagCommand) other;
-        return index.equals(o.index) && tagsToAdd.equals(o.tagsToAdd);
+        return target.equals(o.target) && tagsToAdd.equals(o.tagsToAdd);
     }
 }
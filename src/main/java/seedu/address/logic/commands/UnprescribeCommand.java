@@ -5,12 +5,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.medicine.Medicine;
@@ -18,7 +16,7 @@ import seedu.address.model.patient.Patient;
 
 /**
  * Removes the specified medication from an existing patient in the patient list.
- * This command takes an index representing a patient in the displayed list
+ * This command takes an index representing a patient in the displayed list, or a patient id,
  * and removes the specified medicine from that patient's medical record.
  */
 public class UnprescribeCommand extends Command {
@@ -27,14 +25,17 @@ public class UnprescribeCommand extends Command {
 
     public static final String MESSAGE_REMOVE_MED_SUCCESS = "Removed medication(s) %1$s from patient: %2$s";
     public static final String MESSAGE_REMOVE_ALL_MED_SUCCESS = "Removed all medication from patient: %1$s";
+    public static final String MESSAGE_BULK_REMOVE_MED_SUCCESS = "Removed medication(s) %1$s from %2$d patient(s)";
+    public static final String MESSAGE_BULK_REMOVE_ALL_MED_SUCCESS = "Removed all medication from %1$d patient(s)";
     public static final String MESSAGE_EMPTY_MED_LIST = "Patient: %1$s currently has no prescribed medication";
     public static final String MESSAGE_MED_NOT_FOUND = "Medication %1$s is not found in patient: "
             + "%2$s's prescription list";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": removes one or more medications "
             + "from the patient specified "
-            + "by the index number used in the last patient listing. "
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the last patient listing, or by the patient id. "
+            + "Use a range of indexes such as 2-5, or 'all', for several patients in the last patient listing. "
+            + "Parameters: INDEX (must be a positive integer), id/ID, FIRST-LAST or all "
             + PREFIX_MEDICINE + "[medicine name] OR "
             + PREFIX_MEDICINE + "all\n"
             + "Example 1: " + COMMAND_WORD + " 1 "
@@ -42,7 +43,7 @@ public class UnprescribeCommand extends Command {
             + "Example 2: " + COMMAND_WORD + " 1 "
             + PREFIX_MEDICINE + "all";
 
-    private final Index index;
+    private final PatientTarget target;
     private final Set<Medicine> medicinesToRemove;
 
     /**
@@ -50,21 +51,26 @@ public class UnprescribeCommand extends Command {
      * @param medicinesToRemove the set of medicines to be removed from the patient
      */
     public UnprescribeCommand(Index index, Set<Medicine> medicinesToRemove) {
-        requireAllNonNull(index);
+        this(PatientTarget.ofIndex(index), medicinesToRemove);
+    }
+
+    /**
+     * @param target the patient to remove the medication from
+     * @param medicinesToRemove the set of medicines to be removed from the patient
+     */
+    public UnprescribeCommand(PatientTarget target, Set<Medicine> medicinesToRemove) {
+        requireAllNonNull(target);
         requireAllNonNull(medicinesToRemove);
-        this.index = index;
+        this.target = target;
         this.medicinesToRemove = medicinesToRemove;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        if (!target.isSingle()) {
+            return executeForAll(model);
         }
-
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
+        Patient patientToEdit = target.resolve(model);
         Set<Medicine> currentMedicines = patientToEdit.getMedicines();
 
         // Check if medicine list is already empty
@@ -98,7 +104,6 @@ public class UnprescribeCommand extends Command {
      */
     private CommandResult removeSpecifiedMedications(Model model, Patient patientToEdit) throws CommandException {
         Set<Medicine> currentMedicines = patientToEdit.getMedicines();
-        Set<Medicine> updatedMedicines = new HashSet<>();
 
         // Ensure that the patient has all medicines to be removed
         for (Medicine medicineToRemove : medicinesToRemove) {
@@ -108,14 +113,7 @@ public class UnprescribeCommand extends Command {
             }
         }
 
-        // Create a new set of medicines
-        for (Medicine currentMedicine : currentMedicines) {
-            if (!medicinesToRemove.contains(currentMedicine)) {
-                updatedMedicines.add(currentMedicine);
-            }
-        }
-
-        Patient editedPatient = createEditedPatient(patientToEdit, updatedMedicines);
+        Patient editedPatient = createEditedPatient(patientToEdit, removeMedicines(currentMedicines));
 
         model.setPatient(patientToEdit, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
@@ -123,6 +121,39 @@ public class UnprescribeCommand extends Command {
         return new CommandResult(generateSuccessMessage(editedPatient));
     }
 
+    /**
+     * Removes the medicines from every patient the target identifies, skipping those that have none of them.
+     */
+    private CommandResult executeForAll(Model model) throws CommandException {
+        boolean isRemovingAll = medicinesToRemove.contains(REMOVE_ALL_PLACEHOLDER);
+        int unprescribedCount = target.editAll(model, patient -> {
+            Set<Medicine> currentMedicines = patient.getMedicines();
+            Set<Medicine> updatedMedicines = isRemovingAll ? new HashSet<>() : removeMedicines(currentMedicines);
+            return updatedMedicines.size() == currentMedicines.size()
+                    ? null
+                    : createEditedPatient(patient, updatedMedicines);
+        });
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+
+        if (isRemovingAll) {
+            return new CommandResult(String.format(MESSAGE_BULK_REMOVE_ALL_MED_SUCCESS, unprescribedCount));
+        }
+        return new CommandResult(String.format(MESSAGE_BULK_REMOVE_MED_SUCCESS, joinMedicines(), unprescribedCount));
+    }
+
+    /**
+     * Returns the medicines in {@code currentMedicines} that are not to be removed.
+     */
+    private Set<Medicine> removeMedicines(Set<Medicine> currentMedicines) {
+        Set<Medicine> updatedMedicines = new HashSet<>();
+        for (Medicine currentMedicine : currentMedicines) {
+            if (!medicinesToRemove.contains(currentMedicine)) {
+                updatedMedicines.add(currentMedicine);
+            }
+        }
+        return updatedMedicines;
+    }
+
     /**
      * Creates and returns a {@code Patient} with the details of {@code patientToEdit}
      * with updated medicines.
@@ -143,12 +174,18 @@ public class UnprescribeCommand extends Command {
      * {@code patientToEdit}.
      */
     private String generateSuccessMessage(Patient patientToEdit) {
+        return String.format(MESSAGE_REMOVE_MED_SUCCESS, joinMedicines(), patientToEdit.getName());
+    }
+
+    /**
+     * Returns the medicines to remove, separated by spaces.
+     */
+    private String joinMedicines() {
         StringBuilder medStringBuilder = new StringBuilder();
         for (Medicine medicine : medicinesToRemove) {
             medStringBuilder.append(medicine.toString()).append(" ");
         }
-        String medsString = medStringBuilder.toString().trim();
-        return String.format(MESSAGE_REMOVE_MED_SUCCESS, medsString, patientToEdit.getName());
+        return medStringBuilder.toString().trim();
     }
 
     /**
@@ -170,6 +207,6 @@ public class UnprescribeCommand extends Command {
             return false;
         }
 
-        return index.equals(e.index) && Objects.equals(medicinesToRemove, e.medicinesToRemove);
+        return target.equals(e.target) && Objects.equals(medicinesToRemove, e.medicinesToRemove);
     }
 }
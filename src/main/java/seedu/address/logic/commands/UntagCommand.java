@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -30,18 +29,22 @@ public class UntagCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Removes the specified tags from the patient identified by the index "
-            + "number used in the last patient listing. Use 't/all' to remove all tags."
+            + "number used in the last patient listing, or by the patient id. Use 't/all' to remove all tags. "
+            + "Use a range of indexes such as 2-5, or 'all', to untag several patients in the last patient listing."
             + '\n'
-            + "Parameters: INDEX t/tag [t/more_tags]... | INDEX t/all"
+            + "Parameters: INDEX (or id/ID, FIRST-LAST, all) t/tag [t/more_tags]... "
+            + "| INDEX (or id/ID, FIRST-LAST, all) t/all"
             + '\n'
             + "Example: " + COMMAND_WORD + " 39 t/High Blood Pressure t/Seafood Allergy"
             + "\nExample: " + COMMAND_WORD + " 2 t/all";
     public static final String REPEATED_TAG_ERROR = TagCommand.REPEATED_TAG_ERROR;
+    public static final String MESSAGE_BULK_SUCCESS = "Tags %1$s successfully removed from %2$d patient(s)";
+    public static final String MESSAGE_BULK_ALL_TAGS_SUCCESS = "All tags successfully removed from %1$d patient(s)";
 
     /**
-     * The index of the patient to modify.
+     * The patient to modify.
      */
-    private final Index index;
+    private final PatientTarget target;
 
     /**
      * The set of tags to remove from the patient.
@@ -56,10 +59,20 @@ public class UntagCommand extends Command {
      * @param tagsToDelete The set of tags to remove.
      */
     public UntagCommand(Index index, HashSet<Tag> tagsToDelete, boolean removeAllTags) {
+        this(PatientTarget.ofIndex(index), tagsToDelete, removeAllTags);
+    }
+
+    /**
+     * Creates a {@code DeleteTagCommand}.
+     *
+     * @param target The patient to modify.
+     * @param tagsToDelete The set of tags to remove.
+     */
+    public UntagCommand(PatientTarget target, HashSet<Tag> tagsToDelete, boolean removeAllTags) {
         if (tagsToDelete.isEmpty() && !removeAllTags) {
             throw new IllegalArgumentException("At least one tag must be provided, or use 't/all' to remove all tags.");
         }
-        this.index = index;
+        this.target = target;
         this.tagsToDelete = new HashSet<>(tagsToDelete);
         this.removeAllTags = removeAllTags;
     }
@@ -89,19 +102,16 @@ public class UntagCommand extends Command {
      *
      * @param model The model that the command should operate on.
      * @return A {@code CommandResult} indicating the outcome of the command.
-     * @throws CommandException if the provided index is out of range.
+     * @throws CommandException if the provided index is out of range or no patient has the provided id.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX
-                    + " Please check the patient index again or use the find feature to locate the patient.");
+        if (!target.isSingle()) {
+            return executeForAll(model);
         }
-
-        Patient patient = lastShownList.get(index.getZeroBased());
+        Patient patient = target.resolve(model, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX
+                + " Please check the patient index again or use the find feature to locate the patient.");
 
         if (patient.getTags().isEmpty()) {
             throw new CommandException("No tags found for this patient. "
@@ -130,6 +140,32 @@ public class UntagCommand extends Command {
     }
 
 
+    /**
+     * Removes the tags from every patient the target identifies, skipping those that have none of them.
+     */
+    private CommandResult executeForAll(Model model) throws CommandException {
+        int untaggedCount = target.editAll(model, patient -> hasTagsToRemove(patient)
+                ? removeTags(patient, tagsToDelete, removeAllTags)
+                : null);
+        model.updateFilteredPatientList(Model.PREDICATE_SHOW_ALL_PATIENTS);
+        return new CommandResult(removeAllTags
+                ? String.format(MESSAGE_BULK_ALL_TAGS_SUCCESS, untaggedCount)
+                : String.format(MESSAGE_BULK_SUCCESS, TagCommand.joinTags(tagsToDelete), untaggedCount));
+    }
+
+    private boolean hasTagsToRemove(Patient patient) {
+        Set<Tag> patientTags = patient.getTags();
+        if (removeAllTags) {
+            return !patientTags.isEmpty();
+        }
+        for (Tag tag : tagsToDelete) {
+            if (patientTags.contains(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Removes the specified tags from the given patient.
      *
@@ -171,6 +207,6 @@ public class UntagCommand extends Command {
             return false;
         }
         UntagCommand o = (UntagCommand) other;
-        return index.equals(o.index) && tagsToDelete.equals(o.tagsToDelete) && removeAllTags == o.removeAllTags;
+        return target.equals(o.target) && tagsToDelete.equals(o.tagsToDelete) && removeAllTags == o.removeAllTags;
     }
 }
@@ -1,11 +1,16 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.StringUtil.isLineTerminator;
+import static seedu.address.commons.util.StringUtil.isRegexWhitespace;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -16,6 +21,8 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindMedCommand;
+import seedu.address.logic.commands.FindVisitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LastVisitCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -27,14 +34,45 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The command word picks the parser for the rest of the input from a registry, to which more commands can be added.
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
     /**
-     * Used for initial separation of command word and args.
+     * The parsers of the built-in commands. Parsers keep no state, so one instance of each is shared.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final Map<String, Parser<?>> DEFAULT_PARSERS = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, new AddCommandParser()),
+            Map.entry(EditCommand.COMMAND_WORD, new EditCommandParser()),
+            Map.entry(DeleteCommand.COMMAND_WORD, new DeleteCommandParser()),
+            Map.entry(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand()),
+            Map.entry(FindCommand.COMMAND_WORD, new FindCommandParser()),
+            Map.entry(FindMedCommand.COMMAND_WORD, new FindMedCommandParser()),
+            Map.entry(FindVisitCommand.COMMAND_WORD, new FindVisitCommandParser()),
+            Map.entry(ListCommand.COMMAND_WORD, new ListCommandParser()),
+            Map.entry(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()),
+            Map.entry(HelpCommand.COMMAND_WORD, new HelpCommandParser()),
+            Map.entry(LastVisitCommand.COMMAND_WORD, new LastVisitCommandParser()),
+            Map.entry(UntagCommand.COMMAND_WORD, new UntagCommandParser()),
+            Map.entry(DelLastVisitCommand.COMMAND_WORD, new DelLastVisitCommandParser()),
+            Map.entry(PrescribeCommand.COMMAND_WORD, new PrescribeCommandParser()),
+            Map.entry(UnprescribeCommand.COMMAND_WORD, new UnprescribeCommandParser()),
+            Map.entry(TagCommand.COMMAND_WORD, new TagCommandParser()));
+
+    private final Map<String, Parser<?>> parsers = new HashMap<>(DEFAULT_PARSERS);
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord},
+     * in place of any parser registered for it before.
+     */
+    public void registerParser(String commandWord, Parser<?> parser) {
+        requireAllNonNull(commandWord, parser);
+        checkArgument(!commandWord.isEmpty() && commandWord.chars().noneMatch(c -> isRegexWhitespace((char) c)),
+                "Command words must not be empty or contain whitespace.");
+        parsers.put(commandWord, parser);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -44,67 +82,42 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        // The command word runs up to the first whitespace, and the arguments are the rest of the input,
+        // which must be on one line
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isRegexWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0 || containsLineTerminator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommandParser().parse(arguments);
-
-        case LastVisitCommand.COMMAND_WORD:
-            return new LastVisitCommandParser().parse(arguments);
-
-        case UntagCommand.COMMAND_WORD:
-            return new UntagCommandParser().parse(arguments);
-
-        case DelLastVisitCommand.COMMAND_WORD:
-            return new DelLastVisitCommandParser().parse(arguments);
-
-        case PrescribeCommand.COMMAND_WORD:
-            return new PrescribeCommandParser().parse(arguments);
-
-        case UnprescribeCommand.COMMAND_WORD:
-            return new UnprescribeCommandParser().parse(arguments);
-
-        case TagCommand.COMMAND_WORD:
-            return new TagCommandParser().parse(arguments);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        }
 
-        default:
+        final Parser<?> parser = parsers.get(commandWord);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
+
+    private static boolean containsLineTerminator(String s, int fromIndex) {
+        for (int i = fromIndex; i < s.length(); i++) {
+            if (isLineTerminator(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
@@ -16,11 +16,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values added by {@link ArgumentTokenizer} are kept as positions in the arguments string, and are only copied out of
+ * it when they are asked for.
  */
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<Slice>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +32,33 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        put(prefix, new Slice(argValue, 0, argValue.length()));
+    }
+
+    /**
+     * Associates the part of {@code source} from {@code start} to {@code end}, without leading and trailing
+     * whitespace, with {@code prefix} key in this map.
+     */
+    void put(Prefix prefix, String source, int start, int end) {
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        put(prefix, new Slice(source, start, end));
+    }
+
+    private void put(Prefix prefix, Slice argValue) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1)).add(argValue);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<Slice> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1).toString());
     }
 
     /**
@@ -49,17 +67,19 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<Slice> values = argMultimap.getOrDefault(prefix, List.of());
+        List<String> copy = new ArrayList<>(values.size());
+        for (Slice value : values) {
+            copy.add(value.toString());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return copy;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(ArgumentTokenizer.PREAMBLE).orElse("");
     }
 
     /**
@@ -75,4 +95,29 @@ public class ArgumentMultimap {
             throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(duplicatedPrefixes));
         }
     }
+
+    /**
+     * An argument value, which is the part of a string between two positions.
+     * The value is only copied out of the string the first time it is asked for.
+     */
+    private static class Slice {
+        private final String source;
+        private final int start;
+        private final int end;
+        private String value;
+
+        Slice(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            if (value == null) {
+                value = source.substring(start, end);
+            }
+            return value;
+        }
+    }
 }
@@ -1,8 +1,7 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DelLastVisitCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -20,17 +19,8 @@ public class DelLastVisitCommandParser
      *     format
      */
     public DelLastVisitCommand parse(String args) throws ParseException {
-        try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DelLastVisitCommand(index);
-        } catch (ParseException pe) {
-            throw new ParseException(
-                String.format(
-                        MESSAGE_INVALID_COMMAND_FORMAT,
-                        DelLastVisitCommand.MESSAGE_USAGE
-                ),
-                pe
-            );
-        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID);
+        return new DelLastVisitCommand(
+                ParserUtil.parsePatientTarget(argMultimap, DelLastVisitCommand.MESSAGE_USAGE));
     }
 }
@@ -1,8 +1,13 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import java.util.Optional;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -16,7 +21,13 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID);
+        Optional<PatientTarget> idTarget = ParserUtil.parseIdTarget(argMultimap, DeleteCommand.MESSAGE_USAGE);
+        if (idTarget.isPresent()) {
+            return new DeleteCommand(idTarget.get());
+        }
+
+        String trimmedArgs = argMultimap.getPreamble();
 
         // Check if string is empty or contains non-digit characters (format issue)
         if (trimmedArgs.isEmpty() || !trimmedArgs.matches("-?\\d+")) {
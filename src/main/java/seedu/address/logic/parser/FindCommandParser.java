@@ -1,31 +1,52 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.NameSimilarToKeywordsPredicate;
+import seedu.address.model.patient.PatientHasTagsPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MATCH_ANY_FLAG = "/any";
+    public static final String FUZZY_FLAG = "/fuzzy";
+    public static final String MESSAGE_NAME_AND_TAGS = "Search by either name keywords or tags, not both.";
+    public static final String MESSAGE_INVALID_DISTANCE = "The fuzzy search distance should be a number from 0 to "
+            + NameSimilarToKeywordsPredicate.MAX_DISTANCE_LIMIT + ".";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        if (!argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
+            return parseTagSearch(argMultimap);
+        }
+
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(FUZZY_FLAG)) {
+            return parseFuzzySearch(args);
+        }
+
         boolean isStrict = false;
 
         if (trimmedArgs.startsWith("/strict")) {
@@ -40,4 +61,51 @@ public class FindCommandParser implements Parser<FindCommand> {
         List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
         return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords, isStrict));
     }
+
+    /**
+     * Parses a search by names spelt like the keywords, where the preamble is {@code /fuzzy} and the keywords.
+     */
+    private FindCommand parseFuzzySearch(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DISTANCE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DISTANCE);
+
+        String keywords = argMultimap.getPreamble().substring(FUZZY_FLAG.length()).trim();
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        int maxDistance = NameSimilarToKeywordsPredicate.DEFAULT_MAX_DISTANCE;
+        if (argMultimap.getValue(PREFIX_DISTANCE).isPresent()) {
+            String distance = argMultimap.getValue(PREFIX_DISTANCE).get().trim();
+            if (!distance.matches("\\d") || Integer.parseInt(distance)
+                    > NameSimilarToKeywordsPredicate.MAX_DISTANCE_LIMIT) {
+                throw new ParseException(MESSAGE_INVALID_DISTANCE);
+            }
+            maxDistance = Integer.parseInt(distance);
+        }
+
+        List<String> nameKeywords = Arrays.asList(keywords.split("\\s+"));
+        return new FindCommand(new NameSimilarToKeywordsPredicate(nameKeywords, maxDistance));
+    }
+
+    /**
+     * Parses a search by tags, where the preamble may only be {@code /any}.
+     */
+    private FindCommand parseTagSearch(ArgumentMultimap argMultimap) throws ParseException {
+        String preamble = argMultimap.getPreamble();
+        boolean isMatchAny = preamble.equals(MATCH_ANY_FLAG);
+        if (!isMatchAny && !preamble.isEmpty()) {
+            throw new ParseException(MESSAGE_NAME_AND_TAGS);
+        }
+
+        List<Tag> tags = new ArrayList<>();
+        for (String tagName : argMultimap.getAllValues(PREFIX_TAG)) {
+            Tag tag = ParserUtil.parseTag(tagName);
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+        return new FindCommand(new PatientHasTagsPredicate(tags, isMatchAny));
+    }
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FindMedCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * Parses input arguments and creates a new FindMedCommand object
+ */
+public class FindMedCommandParser implements Parser<FindMedCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindMedCommand
+     * and returns a FindMedCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindMedCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEDICINE);
+        if (argMultimap.getAllValues(PREFIX_MEDICINE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMedCommand.MESSAGE_USAGE));
+        }
+
+        List<Medicine> medicines = new ArrayList<>();
+        for (String medName : argMultimap.getAllValues(PREFIX_MEDICINE)) {
+            Medicine medicine = ParserUtil.parseMed(medName);
+            if (!medicines.contains(medicine)) {
+                medicines.add(medicine);
+            }
+        }
+        return new FindMedCommand(medicines);
+    }
+}
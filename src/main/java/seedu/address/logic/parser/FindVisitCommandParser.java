@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.FindVisitCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.LastVisitBetweenPredicate;
+import seedu.address.model.patient.NeverVisitedPredicate;
+
+/**
+ * Parses input arguments and creates a new FindVisitCommand object
+ */
+public class FindVisitCommandParser implements Parser<FindVisitCommand> {
+
+    public static final String MESSAGE_FROM_AFTER_TO = "The from/ date must not be after the to/ date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindVisitCommand
+     * and returns a FindVisitCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindVisitCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO);
+        String preamble = argMultimap.getPreamble();
+
+        if (preamble.equals(FindVisitCommand.NEVER_VISITED_FLAG) && from.isEmpty() && to.isEmpty()) {
+            return new FindVisitCommand(new NeverVisitedPredicate());
+        }
+        if (!preamble.isEmpty() || (from.isEmpty() && to.isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindVisitCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate fromDate = from.isPresent() ? ParserUtil.parseDate(from.get()) : null;
+        LocalDate toDate = to.isPresent() ? ParserUtil.parseDate(to.get()) : null;
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new ParseException(MESSAGE_FROM_AFTER_TO);
+        }
+        return new FindVisitCommand(new LastVisitBetweenPredicate(fromDate, toDate));
+    }
+}
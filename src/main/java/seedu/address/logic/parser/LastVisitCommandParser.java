@@ -6,12 +6,13 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_NUMBER_OF_DATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.LastVisitCommand;
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patient.LastVisit;
 
@@ -26,15 +27,9 @@ public class LastVisitCommandParser implements Parser<LastVisitCommand> {
      */
     public LastVisitCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_ID);
 
-        Index index;
-        try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
-        } catch (ParseException pe) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    LastVisitCommand.MESSAGE_USAGE), pe);
-        }
+        PatientTarget target = ParserUtil.parseMultiPatientTarget(argMultimap, LastVisitCommand.MESSAGE_USAGE);
 
         if (!argMultimap.getValue(PREFIX_DATE).isPresent()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -61,6 +56,6 @@ public class LastVisitCommandParser implements Parser<LastVisitCommand> {
             throw new ParseException(MESSAGE_FUTURE_LAST_VISIT_DATE);
         }
 
-        return new LastVisitCommand(index, new LastVisit(date));
+        return new LastVisitCommand(target, new LastVisit(date));
     }
 }
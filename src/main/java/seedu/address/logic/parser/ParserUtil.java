@@ -2,24 +2,30 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_FUTURE_LAST_VISIT_DATE;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE_FORMAT;
 import static seedu.address.logic.commands.UnprescribeCommand.REMOVE_ALL_PLACEHOLDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.patient.Address;
 import seedu.address.model.patient.Email;
 import seedu.address.model.patient.LastVisit;
 import seedu.address.model.patient.Name;
+import seedu.address.model.patient.PatientId;
 import seedu.address.model.patient.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -29,6 +35,13 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RANGE =
+            "The first index of a range should not be greater than the last.";
+
+    /** The target of a command that acts on all the patients in the displayed patient list. */
+    public static final String ALL_PATIENTS_KEYWORD = "all";
+    /** Separates the first and last index of a range of patients in the displayed patient list. */
+    public static final String RANGE_SEPARATOR = "-";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -43,6 +56,126 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Creates a value object from {@code value} with {@code constructor}, which validates {@code value}
+     * so that it does not have to be validated here as well.
+     *
+     * @throws ParseException with {@code messageConstraints} if {@code value} is invalid.
+     */
+    private static <T> T parseValue(String value, Function<String, T> constructor, String messageConstraints)
+            throws ParseException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(messageConstraints);
+        }
+    }
+
+    /**
+     * Parses a {@code String id} into a {@code PatientId}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code id} is invalid.
+     */
+    public static PatientId parsePatientId(String id) throws ParseException {
+        requireNonNull(id);
+        String trimmedId = id.trim();
+        return parseValue(trimmedId, PatientId::new, PatientId.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Parses the {@code id/} value in {@code argMultimap}, if there is one, into the target patient of a command.
+     * Returns an empty {@code Optional} if there is no {@code id/}, in which case the preamble holds the index.
+     *
+     * @throws ParseException if the id is invalid or repeated, or there is a preamble as well as an id,
+     *     in which case the message shows {@code messageUsage}.
+     */
+    public static Optional<PatientTarget> parseIdTarget(ArgumentMultimap argMultimap, String messageUsage)
+            throws ParseException {
+        if (argMultimap.getValue(PREFIX_ID).isEmpty()) {
+            return Optional.empty();
+        }
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ID);
+        return Optional.of(PatientTarget.ofId(parsePatientId(argMultimap.getValue(PREFIX_ID).get())));
+    }
+
+    /**
+     * Parses the target patient of a command, given either by {@code id/} or by the index in the preamble.
+     *
+     * @throws ParseException if the target is invalid, in which case the message shows {@code messageUsage}
+     *     unless the id itself is invalid.
+     */
+    public static PatientTarget parsePatientTarget(ArgumentMultimap argMultimap, String messageUsage)
+            throws ParseException {
+        Optional<PatientTarget> idTarget = parseIdTarget(argMultimap, messageUsage);
+        if (idTarget.isPresent()) {
+            return idTarget.get();
+        }
+        try {
+            return PatientTarget.ofIndex(parseIndex(argMultimap.getPreamble()));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage), pe);
+        }
+    }
+
+    /**
+     * Parses the target patients of a command that can act on several patients at once, given either by
+     * {@code id/}, or by an index, a range of indexes or {@code all} in the preamble.
+     *
+     * @throws ParseException if the target is invalid, in which case the message shows {@code messageUsage}
+     *     unless the id or range itself is invalid.
+     */
+    public static PatientTarget parseMultiPatientTarget(ArgumentMultimap argMultimap, String messageUsage)
+            throws ParseException {
+        Optional<PatientTarget> idTarget = parseIdTarget(argMultimap, messageUsage);
+        if (idTarget.isPresent()) {
+            return idTarget.get();
+        }
+        Optional<PatientTarget> rangeTarget = parseRangeTarget(argMultimap.getPreamble());
+        if (rangeTarget.isPresent()) {
+            return rangeTarget.get();
+        }
+        return parsePatientTarget(argMultimap, messageUsage);
+    }
+
+    /**
+     * Parses {@code preamble} into a target for several patients in the displayed patient list, if it is
+     * {@code all} or a range of one-based indexes such as {@code 2-5}. Leading and trailing whitespaces will be
+     * trimmed.
+     *
+     * @return The target, or an empty {@code Optional} if {@code preamble} is neither, including when it only looks
+     *     like a range, such as a date.
+     * @throws ParseException if {@code preamble} is a range with an invalid index, or with its first index greater
+     *     than its last.
+     */
+    public static Optional<PatientTarget> parseRangeTarget(String preamble) throws ParseException {
+        String trimmedPreamble = preamble.trim();
+        if (trimmedPreamble.equals(ALL_PATIENTS_KEYWORD)) {
+            return Optional.of(PatientTarget.ofAllShown());
+        }
+
+        // A leading separator is left to be parsed as a negative index
+        int separator = trimmedPreamble.indexOf(RANGE_SEPARATOR);
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        String firstIndex = trimmedPreamble.substring(0, separator).trim();
+        String lastIndex = trimmedPreamble.substring(separator + RANGE_SEPARATOR.length()).trim();
+        if (!StringUtil.isAsciiDigits(firstIndex, 1, Integer.MAX_VALUE)
+                || !StringUtil.isAsciiDigits(lastIndex, 1, Integer.MAX_VALUE)) {
+            return Optional.empty();
+        }
+        Index first = parseIndex(firstIndex);
+        Index last = parseIndex(lastIndex);
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return Optional.of(PatientTarget.ofRange(first, last));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -52,10 +185,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return parseValue(trimmedName, Name::new, Name.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -67,10 +197,7 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return parseValue(trimmedPhone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -82,10 +209,7 @@ public class ParserUtil {
     public static Address parseAddress(String address) throws ParseException {
         requireNonNull(address);
         String trimmedAddress = address.trim();
-        if (!Address.isValidAddress(trimmedAddress)) {
-            throw new ParseException(Address.MESSAGE_CONSTRAINTS);
-        }
-        return new Address(trimmedAddress);
+        return parseValue(trimmedAddress, Address::new, Address.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -110,6 +234,21 @@ public class ParserUtil {
         return new LastVisit(lastVisitDate);
     }
 
+    /**
+     * Parses a {@code String date} of format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
+        }
+    }
+
     /**
      * Parses a {@code String email} into an {@code Email}.
      * Leading and trailing whitespaces will be trimmed.
@@ -119,10 +258,7 @@ public class ParserUtil {
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
         String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return parseValue(trimmedEmail, Email::new, Email.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -134,10 +270,7 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
-            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(trimmedTag);
+        return parseValue(trimmedTag, Tag::new, Tag.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -149,10 +282,7 @@ public class ParserUtil {
     public static Medicine parseMed(String medName) throws ParseException {
         requireNonNull(medName);
         String trimmedMedName = medName.trim();
-        if (!Medicine.isValidMedName(trimmedMedName)) {
-            throw new ParseException(Medicine.MESSAGE_CONSTRAINTS);
-        }
-        return new Medicine(trimmedMedName);
+        return parseValue(trimmedMedName, Medicine::new, Medicine.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -3,14 +3,16 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
 import static seedu.address.logic.parser.ParserUtil.findDuplicateInputs;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.commands.PrescribeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.medicine.Medicine;
@@ -26,7 +28,7 @@ public class PrescribeCommandParser implements Parser<PrescribeCommand> {
      */
     public PrescribeCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEDICINE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEDICINE, PREFIX_ID);
 
         // Check for medicine parameter
         if (!argMultimap.getValue(PREFIX_MEDICINE).isPresent()) {
@@ -34,13 +36,21 @@ public class PrescribeCommandParser implements Parser<PrescribeCommand> {
                     PrescribeCommand.MESSAGE_USAGE));
         }
 
+        Optional<PatientTarget> idOrRangeTarget =
+                ParserUtil.parseIdTarget(argMultimap, PrescribeCommand.MESSAGE_USAGE);
+
         // Parse and validate Index
         String preamble = argMultimap.getPreamble().trim();
+        if (idOrRangeTarget.isEmpty()) {
+            idOrRangeTarget = ParserUtil.parseRangeTarget(preamble);
+        }
 
         // Check specifically for negative numbers and zero (index issue)
-        int indexValue = Integer.parseInt(preamble);
-        if (indexValue <= 0) {
-            throw new ParseException(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        if (idOrRangeTarget.isEmpty()) {
+            int indexValue = Integer.parseInt(preamble);
+            if (indexValue <= 0) {
+                throw new ParseException(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+            }
         }
 
         // Double check for duplicated inputs
@@ -50,17 +60,21 @@ public class PrescribeCommandParser implements Parser<PrescribeCommand> {
             throw new ParseException(String.format(PrescribeCommand.REPEATED_MED_ERROR, duplicate));
         }
 
-        Index index;
-        try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
-        } catch (IllegalValueException ive) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    PrescribeCommand.MESSAGE_USAGE), ive);
+        PatientTarget target;
+        if (idOrRangeTarget.isPresent()) {
+            target = idOrRangeTarget.get();
+        } else {
+            try {
+                target = PatientTarget.ofIndex(ParserUtil.parseIndex(argMultimap.getPreamble()));
+            } catch (IllegalValueException ive) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        PrescribeCommand.MESSAGE_USAGE), ive);
+            }
         }
 
         Set<Medicine> medSet = ParserUtil.parseMeds(argMultimap.getAllValues(PREFIX_MEDICINE));
 
-        return new PrescribeCommand(index, medSet);
+        return new PrescribeCommand(target, medSet);
     }
 
 }
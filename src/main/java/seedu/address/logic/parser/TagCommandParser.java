@@ -2,12 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.HashSet;
 import java.util.List;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
@@ -27,10 +28,10 @@ public class TagCommandParser implements Parser<TagCommand> {
     public TagCommand parse(String args) throws ParseException {
         // Based on EditCommandParser.java
         requireNonNull(args);
-        ArgumentMultimap argMM = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        ArgumentMultimap argMM = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_ID);
 
-        // Retrieve the index from the user input
-        Index ind = getIndex(argMM);
+        // Retrieve the index or id from the user input
+        PatientTarget target = ParserUtil.parseMultiPatientTarget(argMM, TagCommand.MESSAGE_USAGE);
 
         // Double check for duplicated inputs
         List<String> listTagStrsToAdd = argMM.getAllValues(PREFIX_TAG);
@@ -58,29 +59,7 @@ public class TagCommandParser implements Parser<TagCommand> {
                     TagCommand.NO_TAG_INCLUDED_ERROR));
         }
 
-        return new TagCommand(ind, tagsToAdd);
-    }
-
-    /**
-     * Retrieves the index from the argument multimap.
-     *
-     * @param argMM The argument multimap.
-     * @return The index from the argument multimap.
-     * @throws ParseException if there is an error parsing the index.
-     */
-    private Index getIndex(ArgumentMultimap argMM) throws ParseException {
-        try {
-            return ParserUtil.parseIndex(argMM.getPreamble());
-        } catch (ParseException pe) {
-            // Copied from DelLastVisitCommandParser.java
-            throw new ParseException(
-                    String.format(
-                            MESSAGE_INVALID_COMMAND_FORMAT,
-                            TagCommand.MESSAGE_USAGE
-                    ),
-                    pe
-            );
-        }
+        return new TagCommand(target, tagsToAdd);
     }
 
     /**
@@ -3,13 +3,16 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
 import static seedu.address.logic.parser.ParserUtil.findDuplicateInputs;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.commands.PrescribeCommand;
 import seedu.address.logic.commands.UnprescribeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -26,7 +29,7 @@ public class UnprescribeCommandParser implements Parser<UnprescribeCommand> {
      */
     public UnprescribeCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEDICINE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEDICINE, PREFIX_ID);
 
         // Check for medicine parameter
         if (!argMultimap.getValue(PREFIX_MEDICINE).isPresent()) {
@@ -34,19 +37,27 @@ public class UnprescribeCommandParser implements Parser<UnprescribeCommand> {
                     UnprescribeCommand.MESSAGE_USAGE));
         }
 
+        Optional<PatientTarget> idOrRangeTarget =
+                ParserUtil.parseIdTarget(argMultimap, UnprescribeCommand.MESSAGE_USAGE);
+
         // Parse and validate the index
         String preamble = argMultimap.getPreamble().trim();
-
-        // Check if index is empty or contains non-digit characters (format issue)
-        if (preamble.isEmpty() || !preamble.matches("-?\\d+")) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnprescribeCommand.MESSAGE_USAGE));
+        if (idOrRangeTarget.isEmpty()) {
+            idOrRangeTarget = ParserUtil.parseRangeTarget(preamble);
         }
 
-        // Check specifically for negative numbers and zero (index issue)
-        int indexValue = Integer.parseInt(preamble);
-        if (indexValue <= 0) {
-            throw new ParseException(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        if (idOrRangeTarget.isEmpty()) {
+            // Check if index is empty or contains non-digit characters (format issue)
+            if (preamble.isEmpty() || !preamble.matches("-?\\d+")) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnprescribeCommand.MESSAGE_USAGE));
+            }
+
+            // Check specifically for negative numbers and zero (index issue)
+            int indexValue = Integer.parseInt(preamble);
+            if (indexValue <= 0) {
+                throw new ParseException(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+            }
         }
 
         // Double check for duplicated inputs
@@ -57,6 +68,9 @@ public class UnprescribeCommandParser implements Parser<UnprescribeCommand> {
         }
 
         Set<Medicine> medsToRemove = ParserUtil.parseMedsUnprescribe(argMultimap.getAllValues(PREFIX_MEDICINE));
+        if (idOrRangeTarget.isPresent()) {
+            return new UnprescribeCommand(idOrRangeTarget.get(), medsToRemove);
+        }
         try {
             Index index = ParserUtil.parseIndex(preamble);
             return new UnprescribeCommand(index, medsToRemove);
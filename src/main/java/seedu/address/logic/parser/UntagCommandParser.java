@@ -1,13 +1,13 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.HashSet;
 import java.util.List;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.commands.UntagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
@@ -26,16 +26,9 @@ public class UntagCommandParser implements Parser<UntagCommand> {
      */
     public UntagCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMM = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        ArgumentMultimap argMM = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_ID);
 
-        Index index;
-        try {
-            index = ParserUtil.parseIndex(argMM.getPreamble());
-        } catch (ParseException pe) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UntagCommand.MESSAGE_USAGE), pe
-            );
-        }
+        PatientTarget target = ParserUtil.parseMultiPatientTarget(argMM, UntagCommand.MESSAGE_USAGE);
 
         List<String> listTagStrsToDel = argMM.getAllValues(PREFIX_TAG);
         checkForDuplicateTags(listTagStrsToDel);
@@ -66,7 +59,7 @@ public class UntagCommandParser implements Parser<UntagCommand> {
             }
         }
 
-        return new UntagCommand(index, tagsToDelete, isRemovingAllTags);
+        return new UntagCommand(target, tagsToDelete, isRemovingAllTags);
     }
 
     private void checkForDuplicateTags(List<String> tags) throws ParseException {
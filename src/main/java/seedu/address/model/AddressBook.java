@@ -1,21 +1,49 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.LastVisit;
+import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
 import seedu.address.model.patient.UniquePatientList;
+import seedu.address.model.patient.exceptions.PatientNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePatient comparison)
+ * Every patient in the address book has an id that no other patient in it has.
+ * Ids are never reused, so a removed patient's id is not given to a patient added later.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The key in the last visit index of patients with no last visit, which sorts before every date. */
+    private static final long NEVER_VISITED = Long.MIN_VALUE;
+
     private final UniquePatientList patients;
+    private final InvertedIndex<Tag> tagIndex;
+    private final InvertedIndex<Medicine> medicineIndex;
+    private final SortedInvertedIndex<Long> lastVisitIndex;
+    private final NameTokenIndex nameTokenIndex;
+    private final InvertedIndex<String> phoneticIndex;
+    private final List<InvertedIndex<?>> indexes;
+    private Map<PatientId, Patient> patientsById = new HashMap<>();
+    // The highest id given to a patient so far, which never decreases
+    private long lastId;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +54,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         patients = new UniquePatientList();
+        tagIndex = new InvertedIndex<>(patients.asUnmodifiableObservableList(), Patient::getTags);
+        medicineIndex = new InvertedIndex<>(patients.asUnmodifiableObservableList(), Patient::getMedicines);
+        lastVisitIndex = new SortedInvertedIndex<>(patients.asUnmodifiableObservableList(),
+                patient -> List.of(lastVisitKeyOf(patient)));
+        nameTokenIndex = new NameTokenIndex(patients.asUnmodifiableObservableList());
+        phoneticIndex = new InvertedIndex<>(patients.asUnmodifiableObservableList(),
+                patient -> List.of(patient.getName().getPhoneticKey()));
+        indexes = List.of(tagIndex, medicineIndex, lastVisitIndex, nameTokenIndex, phoneticIndex);
     }
 
     public AddressBook() {}
@@ -43,9 +79,31 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the patient list with {@code patients}.
      * {@code patients} must not contain duplicate patients.
+     * Patients keep their ids, except those with no id or the same id as an earlier patient, which are given new ids.
      */
     public void setPatients(List<Patient> patients) {
-        this.patients.setPatients(patients);
+        long newLastId = lastId;
+        for (Patient patient : patients) {
+            if (patient.getId() != null) {
+                newLastId = Math.max(newLastId, patient.getId().value);
+            }
+        }
+        List<Patient> patientsWithIds = new ArrayList<>(patients.size());
+        Map<PatientId, Patient> newPatientsById = new HashMap<>(Math.max(16, (int) (patients.size() / 0.75f) + 1));
+        for (Patient patient : patients) {
+            Patient patientWithId = patient;
+            if (patient.getId() == null || newPatientsById.containsKey(patient.getId())) {
+                patientWithId = patient.withId(new PatientId(++newLastId));
+            }
+            newPatientsById.put(patientWithId.getId(), patientWithId);
+            patientsWithIds.add(patientWithId);
+        }
+
+        this.patients.setPatients(patientsWithIds);
+        patientsById = newPatientsById;
+        lastId = newLastId;
+        indexes.forEach(InvertedIndex::invalidate);
+        modificationCount++;
     }
 
     /**
@@ -54,9 +112,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        reserveIdsUpTo(newData.getLastId());
         setPatients(newData.getPatientList());
     }
 
+    /**
+     * Ensures that no patient added later is given {@code lastId} or a lower id,
+     * as those ids may have been given to patients that have since been removed.
+     */
+    public void reserveIdsUpTo(long lastId) {
+        this.lastId = Math.max(this.lastId, lastId);
+    }
+
     //// patient-level operations
 
     /**
@@ -72,9 +139,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Adds a patient to the address book.
      * The patient must not already exist in the address book.
+     * The patient is given a new id unless it has an id that no patient in the address book has.
      */
     public void addPatient(Patient p) {
-        patients.add(p);
+        requireNonNull(p);
+        Patient toAdd = p.getId() == null || patientsById.containsKey(p.getId())
+                ? p.withId(new PatientId(lastId + 1))
+                : p;
+        patients.add(toAdd);
+        patientsById.put(toAdd.getId(), toAdd);
+        lastId = Math.max(lastId, toAdd.getId().value);
+        indexes.forEach(index -> index.add(toAdd));
+        modificationCount++;
     }
 
     /**
@@ -82,24 +158,186 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code target} must exist in the address book.
      * The patient identity of {@code editedPatient} must not be the same as another
      * existing patient in the address book.
+     * {@code editedPatient} takes over the id of {@code target}.
      */
     public void setPatient(Patient target, Patient editedPatient) {
         requireNonNull(editedPatient);
 
-        patients.setPatient(target, editedPatient);
+        Patient stored = getStoredPatient(target);
+        PatientId id = stored.getId();
+        Patient toSet = id.equals(editedPatient.getId()) ? editedPatient : editedPatient.withId(id);
+        patients.setPatient(target, toSet);
+        patientsById.put(id, toSet);
+        indexes.forEach(index -> {
+            index.remove(stored);
+            index.add(toSet);
+        });
+        modificationCount++;
+    }
+
+    /**
+     * Replaces each patient in {@code targets} with the patient at the same position in {@code editedPatients},
+     * as a single modification of the address book.
+     * Each target must exist in the address book, and appear only once in {@code targets}.
+     * The patient identities of the edited patients must not be the same as each other, or as another existing
+     * patient in the address book.
+     * Each edited patient takes over the id of its target.
+     */
+    public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+        requireAllNonNull(targets, editedPatients);
+        if (targets.size() != editedPatients.size()) {
+            throw new IllegalArgumentException("Each target must have exactly one edited patient");
+        }
+
+        List<Patient> storedPatients = new ArrayList<>(targets.size());
+        List<Patient> patientsToSet = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Patient stored = getStoredPatient(targets.get(i));
+            PatientId id = stored.getId();
+            Patient editedPatient = editedPatients.get(i);
+            storedPatients.add(stored);
+            patientsToSet.add(id.equals(editedPatient.getId()) ? editedPatient : editedPatient.withId(id));
+        }
+
+        patients.setPatients(targets, patientsToSet);
+        for (int i = 0; i < patientsToSet.size(); i++) {
+            Patient stored = storedPatients.get(i);
+            Patient toSet = patientsToSet.get(i);
+            patientsById.put(toSet.getId(), toSet);
+            indexes.forEach(index -> {
+                index.remove(stored);
+                index.add(toSet);
+            });
+        }
+        modificationCount++;
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
-
     public void removePatient(Patient key) {
+        Patient stored = getStoredPatient(key);
         patients.remove(key);
+        patientsById.remove(stored.getId());
+        indexes.forEach(index -> index.remove(stored));
+        modificationCount++;
+    }
+
+    /**
+     * Returns the patient in the list with the same identity as {@code patient}.
+     *
+     * @throws PatientNotFoundException if there is no such patient.
+     */
+    private Patient getStoredPatient(Patient patient) {
+        requireNonNull(patient);
+        Patient stored = patients.getSamePatient(patient);
+        if (stored == null) {
+            throw new PatientNotFoundException();
+        }
+        return stored;
+    }
+
+    //// index lookups
+
+    /**
+     * Returns the patient with the given {@code id}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Patient> getPatientById(PatientId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(patientsById.get(id));
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients tagged with {@code tag}, which compares patients by identity.
+     * The view is only valid until the address book is next modified.
+     */
+    public Set<Patient> getPatientsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.get(tag);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients prescribed {@code medicine}, which compares patients by identity.
+     * Medicines are matched ignoring case. The view is only valid until the address book is next modified.
+     */
+    public Set<Patient> getPatientsOnMedicine(Medicine medicine) {
+        requireNonNull(medicine);
+        return medicineIndex.get(medicine);
+    }
+
+    /**
+     * Returns the number of patients prescribed {@code medicine}, ignoring case.
+     */
+    public int countPatientsOnMedicine(Medicine medicine) {
+        requireNonNull(medicine);
+        return medicineIndex.count(medicine);
+    }
+
+    /**
+     * Returns the patients last visited from {@code from} to {@code to}, both inclusive.
+     * Either date may be null, for a range with no lower or upper bound.
+     * The returned set compares patients by identity.
+     */
+    public Set<Patient> getPatientsLastVisitedBetween(LocalDate from, LocalDate to) {
+        return lastVisitIndex.getBetween(from == null ? NEVER_VISITED + 1 : from.toEpochDay(),
+                to == null ? Long.MAX_VALUE : to.toEpochDay());
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with no last visit, which compares patients by identity.
+     * The view is only valid until the address book is next modified.
+     */
+    public Set<Patient> getPatientsNeverVisited() {
+        return lastVisitIndex.get(NEVER_VISITED);
+    }
+
+    /**
+     * Returns the patients with a word in their name that starts with {@code prefix}, ignoring case.
+     * The returned set compares patients by identity.
+     */
+    public Set<Patient> getPatientsWithNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return nameTokenIndex.getWithPrefix(prefix.toLowerCase());
+    }
+
+    /**
+     * Returns the patients with a word in their name within {@code maxDistance} edits of {@code word},
+     * ignoring case. The returned set compares patients by identity.
+     */
+    public Set<Patient> getPatientsWithNameNear(String word, int maxDistance) {
+        requireNonNull(word);
+        return nameTokenIndex.getNear(word.toLowerCase(), maxDistance);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients whose name sounds like {@code name},
+     * as given by {@link Name#getPhoneticKey()}, which compares patients by identity.
+     * The view is only valid until the address book is next modified.
+     */
+    public Set<Patient> getPatientsWithNameSoundingLike(Name name) {
+        requireNonNull(name);
+        return phoneticIndex.get(name.getPhoneticKey());
+    }
+
+    /**
+     * Returns the key of {@code patient} in the last visit index, which is the epoch day of the last visit.
+     */
+    private static Long lastVisitKeyOf(Patient patient) {
+        LastVisit lastVisit = patient.getLastVisit();
+        return lastVisit == null ? NEVER_VISITED : lastVisit.lastVisitDate.toEpochDay();
     }
 
     //// util methods
 
+    /**
+     * Returns the number of modifications made to this address book since it was created.
+     * The count only ever increases, so callers can detect changes by comparing two readings.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -112,6 +350,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return patients.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getLastId() {
+        return lastId;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.StringUtil.editDistance;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A BK-tree of words, which finds the words within an edit distance of a given word
+ * without comparing it to every word in the tree.
+ * Each child of a word is keyed by its edit distance to that word. By the triangle inequality, a word within
+ * {@code maxDistance} of the searched word can only be under a child whose key is within {@code maxDistance}
+ * of the distance between the searched word and the parent, so the other children are skipped.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = editDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code word}.
+     */
+    List<String> search(String word, int maxDistance) {
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = editDistance(word, node.word);
+            if (distance <= maxDistance) {
+                matches.add(node.word);
+            }
+            int lastChild = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int childDistance = Math.max(distance - maxDistance, 1); childDistance <= lastChild; childDistance++) {
+                if (node.children[childDistance] != null) {
+                    toVisit.push(node.children[childDistance]);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A word in the tree, whose children are indexed by their edit distance to it.
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String word;
+        private Node[] children = NO_CHILDREN;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                // a child can be at most as far away as the longer of the two words
+                children = Arrays.copyOf(children, Math.max(distance + 1, word.length() + 1));
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.address.model;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * A {@code Predicate} on patients whose matches can be looked up in the indexes of a {@code Model},
+ * instead of by testing every patient in the address book.
+ */
+public interface IndexedPredicate extends Predicate<Patient> {
+
+    /**
+     * Returns the patients in the address book of {@code model} that satisfy this predicate.
+     * The returned set compares patients by identity, and is only valid until the address book is next modified.
+     */
+    Set<Patient> findMatches(Model model);
+}
@@ -0,0 +1,142 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * Maps each key to the patients in a list that have it, so that the patients with a key can be found
+ * without scanning the list.
+ * The index is built on its first lookup, and kept up to date from then on by the owner of the list,
+ * which must report every change to the list through {@link #add}, {@link #remove} and {@link #invalidate}.
+ * Patients are compared by identity.
+ *
+ * @param <K> the type of the keys, such as the tags of a patient.
+ */
+class InvertedIndex<K> {
+
+    private final List<Patient> patients;
+    private final Function<Patient, ? extends Collection<K>> keysOf;
+    private final Supplier<? extends Map<K, Set<Patient>>> mapFactory;
+    private Map<K, Set<Patient>> index;
+
+    /**
+     * Creates an index over {@code patients}, where each patient has the keys given by {@code keysOf}.
+     */
+    InvertedIndex(List<Patient> patients, Function<Patient, ? extends Collection<K>> keysOf) {
+        this(patients, keysOf, HashMap::new);
+    }
+
+    /**
+     * Creates an index over {@code patients} like {@link #InvertedIndex(List, Function)},
+     * which keeps its keys in the map created by {@code mapFactory}.
+     */
+    InvertedIndex(List<Patient> patients, Function<Patient, ? extends Collection<K>> keysOf,
+                  Supplier<? extends Map<K, Set<Patient>>> mapFactory) {
+        this.patients = patients;
+        this.keysOf = keysOf;
+        this.mapFactory = mapFactory;
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with {@code key}.
+     */
+    Set<Patient> get(K key) {
+        Set<Patient> matches = getIndex().get(key);
+        return matches == null ? Collections.emptySet() : Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the number of patients with {@code key}.
+     */
+    int count(K key) {
+        Set<Patient> matches = getIndex().get(key);
+        return matches == null ? 0 : matches.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys that at least one patient has.
+     */
+    Set<K> keys() {
+        return Collections.unmodifiableSet(getIndex().keySet());
+    }
+
+    /**
+     * Records that {@code patient} was added to the list.
+     */
+    void add(Patient patient) {
+        if (index != null) {
+            addToIndex(patient);
+        }
+    }
+
+    /**
+     * Records that {@code patient} was removed from the list.
+     */
+    void remove(Patient patient) {
+        if (index == null) {
+            return;
+        }
+        for (K key : keysOf.apply(patient)) {
+            Set<Patient> matches = index.get(key);
+            if (matches == null) {
+                continue;
+            }
+            if (!matches.remove(patient)) {
+                // patient is an equal copy of the one in the list
+                matches.removeIf(patient::equals);
+            }
+            if (matches.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Records that the whole list was replaced. The index is rebuilt on its next lookup.
+     */
+    void invalidate() {
+        index = null;
+    }
+
+    /**
+     * Returns the map from each key to the patients with it, building it first if needed.
+     */
+    Map<K, Set<Patient>> getIndex() {
+        if (index == null) {
+            index = mapFactory.get();
+            patients.forEach(this::addToIndex);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the keys of {@code patient}.
+     */
+    Collection<K> keysOf(Patient patient) {
+        return keysOf.apply(patient);
+    }
+
+    /**
+     * Returns a new empty set that compares patients by identity.
+     */
+    static Set<Patient> newPatientSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void addToIndex(Patient patient) {
+        for (K key : keysOf.apply(patient)) {
+            // Most keys of a name index have only a few patients, so their sets start small and grow when needed
+            index.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>(1)))
+                    .add(patient);
+        }
+    }
+}
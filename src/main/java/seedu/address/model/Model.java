@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -52,6 +60,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that increases every time the address book is modified.
+     * Two equal readings mean the address book has not changed in between.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a patient with the same identity as {@code patient} exists in the address book.
      */
@@ -77,11 +91,80 @@ public interface Model {
      */
     void setPatient(Patient target, Patient editedPatient);
 
+    /**
+     * Replaces each patient in {@code targets} with the patient at the same position in {@code editedPatients},
+     * as a single update of the address book.
+     * Each target must exist in the address book, and appear only once in {@code targets}.
+     * The patient identities of the edited patients must not be the same as each other, or as another existing
+     * patient in the address book.
+     */
+    void setPatients(List<Patient> targets, List<Patient> editedPatients);
+
+    /**
+     * Returns an unmodifiable view of the patients tagged with {@code tag}, which compares patients by identity.
+     * The view is only valid until the address book is next modified.
+     */
+    Set<Patient> getPatientsWithTag(Tag tag);
+
+    /**
+     * Returns an unmodifiable view of the patients prescribed {@code medicine}, which compares patients by identity.
+     * Medicines are matched ignoring case. The view is only valid until the address book is next modified.
+     */
+    Set<Patient> getPatientsOnMedicine(Medicine medicine);
+
+    /**
+     * Returns the number of patients prescribed {@code medicine}, ignoring case.
+     */
+    int countPatientsOnMedicine(Medicine medicine);
+
+    /**
+     * Returns the patients last visited from {@code from} to {@code to}, both inclusive.
+     * Either date may be null, for a range with no lower or upper bound.
+     * The returned set compares patients by identity.
+     */
+    Set<Patient> getPatientsLastVisitedBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns an unmodifiable view of the patients with no last visit, which compares patients by identity.
+     * The view is only valid until the address book is next modified.
+     */
+    Set<Patient> getPatientsNeverVisited();
+
+    /**
+     * Returns the patients with a word in their name that starts with {@code prefix}, ignoring case.
+     * The returned set compares patients by identity.
+     * @throws NullPointerException if {@code prefix} is null.
+     */
+    Set<Patient> getPatientsWithNamePrefix(String prefix);
+
+    /**
+     * Returns the patients with a word in their name within {@code maxDistance} edits of {@code word},
+     * ignoring case. The returned set compares patients by identity.
+     * @throws NullPointerException if {@code word} is null.
+     */
+    Set<Patient> getPatientsWithNameNear(String word, int maxDistance);
+
+    /**
+     * Returns an unmodifiable view of the patients whose name sounds like {@code name}, which compares patients
+     * by identity. The view is only valid until the address book is next modified.
+     * @throws NullPointerException if {@code name} is null.
+     */
+    Set<Patient> getPatientsWithNameSoundingLike(Name name);
+
+    /**
+     * Returns the patient with the given {@code id}, or an empty {@code Optional} if there is none.
+     * @throws NullPointerException if {@code id} is null.
+     */
+    Optional<Patient> getPatientById(PatientId id);
+
     /** Returns an unmodifiable view of the filtered patient list */
     ObservableList<Patient> getFilteredPatientList();
 
     /**
      * Updates the filter of the filtered patient list to filter by the given {@code predicate}.
+     * If {@code predicate} is an {@code IndexedPredicate}, its matches are looked up in the indexes
+     * instead of testing the predicate on every patient. If {@code predicate} is a {@code RankedPredicate},
+     * the filtered patients are listed by rank, and otherwise in address book order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
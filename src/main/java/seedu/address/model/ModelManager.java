@@ -4,14 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +34,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Patient> filteredPatients;
+    private final SortedList<Patient> sortedPatients;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,6 +47,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
+        sortedPatients = new SortedList<>(filteredPatients);
     }
 
     public ModelManager() {
@@ -87,6 +101,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPatient(Patient patient) {
         requireNonNull(patient);
@@ -111,6 +130,58 @@ public class ModelManager implements Model {
         addressBook.setPatient(target, editedPatient);
     }
 
+    @Override
+    public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+        requireAllNonNull(targets, editedPatients);
+
+        addressBook.setPatients(targets, editedPatients);
+    }
+
+    @Override
+    public Set<Patient> getPatientsWithTag(Tag tag) {
+        return addressBook.getPatientsWithTag(tag);
+    }
+
+    @Override
+    public Set<Patient> getPatientsOnMedicine(Medicine medicine) {
+        return addressBook.getPatientsOnMedicine(medicine);
+    }
+
+    @Override
+    public int countPatientsOnMedicine(Medicine medicine) {
+        return addressBook.countPatientsOnMedicine(medicine);
+    }
+
+    @Override
+    public Set<Patient> getPatientsLastVisitedBetween(LocalDate from, LocalDate to) {
+        return addressBook.getPatientsLastVisitedBetween(from, to);
+    }
+
+    @Override
+    public Set<Patient> getPatientsNeverVisited() {
+        return addressBook.getPatientsNeverVisited();
+    }
+
+    @Override
+    public Set<Patient> getPatientsWithNamePrefix(String prefix) {
+        return addressBook.getPatientsWithNamePrefix(prefix);
+    }
+
+    @Override
+    public Set<Patient> getPatientsWithNameNear(String word, int maxDistance) {
+        return addressBook.getPatientsWithNameNear(word, maxDistance);
+    }
+
+    @Override
+    public Set<Patient> getPatientsWithNameSoundingLike(Name name) {
+        return addressBook.getPatientsWithNameSoundingLike(name);
+    }
+
+    @Override
+    public Optional<Patient> getPatientById(PatientId id) {
+        return addressBook.getPatientById(id);
+    }
+
     //=========== Filtered patient List Accessors =============================================================
 
     /**
@@ -119,13 +190,34 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Patient> getFilteredPatientList() {
-        return filteredPatients;
+        return sortedPatients;
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
-        filteredPatients.setPredicate(predicate);
+        sortedPatients.setComparator(predicate instanceof RankedPredicate
+                ? byRank((RankedPredicate) predicate)
+                : null);
+        if (!(predicate instanceof IndexedPredicate)) {
+            filteredPatients.setPredicate(predicate);
+            return;
+        }
+
+        Set<Patient> matches = ((IndexedPredicate) predicate).findMatches(this);
+        long matchedAt = addressBook.getModificationCount();
+        // Patients added or edited after the lookup are not in the matches, so they are tested directly
+        filteredPatients.setPredicate(patient -> addressBook.getModificationCount() == matchedAt
+                ? matches.contains(patient)
+                : predicate.test(patient));
+    }
+
+    /**
+     * Returns a comparator that orders patients by their rank in {@code predicate}, ranking each patient only once.
+     */
+    private static Comparator<Patient> byRank(RankedPredicate predicate) {
+        Map<Patient, Integer> ranks = new IdentityHashMap<>();
+        return Comparator.comparingInt(patient -> ranks.computeIfAbsent(patient, predicate::rank));
     }
 
     @Override
@@ -142,7 +234,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPatients.equals(otherModelManager.filteredPatients);
+                && sortedPatients.equals(otherModelManager.sortedPatients);
     }
 
 }
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * A {@code SortedInvertedIndex} from the lower case words of patient names to the patients with them,
+ * which can find the words that start with a prefix, or that are spelt like a given word.
+ */
+class NameTokenIndex extends SortedInvertedIndex<String> {
+
+    /** The words in the index, built on the first search by spelling. */
+    private BkTree words;
+
+    /**
+     * Creates an index over the names of {@code patients}.
+     */
+    NameTokenIndex(List<Patient> patients) {
+        super(patients, patient -> patient.getName().getLowerCaseWords());
+    }
+
+    /**
+     * Returns the patients with a name word that starts with {@code prefix}, which must be in lower case.
+     * The returned set compares patients by identity.
+     */
+    Set<Patient> getWithPrefix(String prefix) {
+        // The words sorted after the prefix and before this bound are exactly the ones that start with it
+        return getBetween(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the patients with a name word within {@code maxDistance} edits of {@code word},
+     * which must be in lower case. The returned set compares patients by identity.
+     */
+    Set<Patient> getNear(String word, int maxDistance) {
+        // Words are not removed from the tree, so it is rebuilt once most of its words are no longer used
+        if (words == null || words.size() > 2 * keys().size()) {
+            words = new BkTree();
+            keys().forEach(words::add);
+        }
+
+        Set<Patient> matches = newPatientSet();
+        for (String near : words.search(word, maxDistance)) {
+            matches.addAll(get(near));
+        }
+        return matches;
+    }
+
+    @Override
+    void add(Patient patient) {
+        super.add(patient);
+        if (words != null) {
+            keysOf(patient).forEach(words::add);
+        }
+    }
+
+    @Override
+    void invalidate() {
+        super.invalidate();
+        words = null;
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * A {@code Predicate} on patients that ranks the patients it matches, so that the best matches can be listed first.
+ */
+public interface RankedPredicate extends Predicate<Patient> {
+
+    /**
+     * Returns the rank of {@code patient}, which satisfies this predicate. Patients with lower ranks match better.
+     */
+    int rank(Patient patient);
+}
@@ -14,4 +14,18 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Patient> getPatientList();
 
+    /**
+     * Returns the highest id that has been given to a patient, or 0 if no patient has been given an id.
+     * No new patient is given this id or a lower one, even if the patient that had it has been removed.
+     */
+    default long getLastId() {
+        long lastId = 0;
+        for (Patient patient : getPatientList()) {
+            if (patient.getId() != null) {
+                lastId = Math.max(lastId, patient.getId().value);
+            }
+        }
+        return lastId;
+    }
+
 }
@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * An {@code InvertedIndex} that keeps its keys sorted, so that the patients with any key in a range can be found.
+ *
+ * @param <K> the type of the keys, which must be comparable.
+ */
+class SortedInvertedIndex<K extends Comparable<? super K>> extends InvertedIndex<K> {
+
+    /**
+     * Creates an index over {@code patients}, where each patient has the keys given by {@code keysOf}.
+     */
+    SortedInvertedIndex(List<Patient> patients, Function<Patient, ? extends Collection<K>> keysOf) {
+        super(patients, keysOf, TreeMap::new);
+    }
+
+    /**
+     * Returns the patients with a key from {@code from} to {@code to}, both inclusive.
+     * The returned set compares patients by identity.
+     */
+    Set<Patient> getBetween(K from, K to) {
+        return getBetween(from, true, to, true);
+    }
+
+    /**
+     * Returns the patients with a key from {@code from} to {@code to}, where each bound is included
+     * only if the matching flag is set. The returned set compares patients by identity.
+     */
+    Set<Patient> getBetween(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        Set<Patient> matches = newPatientSet();
+        if (from.compareTo(to) > 0) {
+            return matches;
+        }
+        ((NavigableMap<K, Set<Patient>>) getIndex()).subMap(from, fromInclusive, to, toInclusive).values()
+                .forEach(matches::addAll);
+        return matches;
+    }
+}
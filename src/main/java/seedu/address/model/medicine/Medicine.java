@@ -2,6 +2,10 @@ package seedu.address.model.medicine;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Medicine in the address book.
@@ -15,6 +19,10 @@ public class Medicine {
             + "Preceding and/or trailing whitespaces will be ignored.";
     public static final String VALIDATION_REGEX = "^[A-Za-z0-9](?:[A-Za-z0-9_-]*[A-Za-z0-9])?$";
 
+    // Only a few hundred distinct names are in use, so every stored medicine with the same name can be shared.
+    // Only names that are stored are kept here, so that names which are only typed, e.g. in a search, are not.
+    private static final Map<String, Medicine> INTERNED = new ConcurrentHashMap<>();
+
     public final String medName;
 
     /**
@@ -28,11 +36,42 @@ public class Medicine {
         this.medName = medName;
     }
 
+    /**
+     * Returns the shared {@code Medicine} with the name {@code medName}, creating it on first use.
+     * This is for names that are being stored, such as those read from a data file.
+     *
+     * @param medName A valid medicine name.
+     */
+    public static Medicine of(String medName) {
+        requireNonNull(medName);
+        return INTERNED.computeIfAbsent(medName, Medicine::new);
+    }
+
+    /**
+     * Returns the shared {@code Medicine} with the same name as {@code medicine}, which becomes the shared one
+     * if there is none yet. This is for medicines that are being stored, such as those given to a patient.
+     */
+    public static Medicine intern(Medicine medicine) {
+        requireNonNull(medicine);
+        Medicine shared = INTERNED.putIfAbsent(medicine.medName, medicine);
+        return shared == null ? medicine : shared;
+    }
+
     /**
      * Returns true if a given string is a valid medicine name.
      */
     public static boolean isValidMedName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int last = test.length() - 1;
+        if (last < 0 || !isAsciiAlphanumeric(test.charAt(0)) || !isAsciiAlphanumeric(test.charAt(last))) {
+            return false;
+        }
+        for (int i = 1; i < last; i++) {
+            char c = test.charAt(i);
+            if (c != '_' && c != '-' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
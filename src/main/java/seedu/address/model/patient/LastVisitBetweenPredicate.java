@@ -0,0 +1,64 @@
+package seedu.address.model.patient;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Model;
+
+/**
+ * Tests that a {@code Patient} was last visited from one date to another, both inclusive.
+ * Either date may be null, for a range with no lower or upper bound.
+ * Patients with no last visit never match.
+ */
+public class LastVisitBetweenPredicate implements IndexedPredicate {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructs a {@code LastVisitBetweenPredicate} for last visits from {@code from} to {@code to}.
+     */
+    public LastVisitBetweenPredicate(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        LastVisit lastVisit = patient.getLastVisit();
+        if (lastVisit == null) {
+            return false;
+        }
+        LocalDate date = lastVisit.lastVisitDate;
+        return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+    }
+
+    @Override
+    public Set<Patient> findMatches(Model model) {
+        return model.getPatientsLastVisitedBetween(from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LastVisitBetweenPredicate)) {
+            return false;
+        }
+
+        LastVisitBetweenPredicate otherPredicate = (LastVisitBetweenPredicate) other;
+        return Objects.equals(from, otherPredicate.from) && Objects.equals(to, otherPredicate.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
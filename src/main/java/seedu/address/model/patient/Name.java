@@ -2,6 +2,13 @@ package seedu.address.model.patient;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a patient's name in the address book.
@@ -35,9 +42,39 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the words of this name in lower case, which are what name searches match against.
+     */
+    public List<String> getLowerCaseWords() {
+        return Arrays.asList(fullName.toLowerCase().trim().split("\\s+"));
     }
 
+    /**
+     * Returns a key that is the same for names that sound alike, such as "Jon Smyth" and "John Smith".
+     * The key is made of the Soundex codes of the words in the name, in sorted order, so the order of the words
+     * does not matter. Words without letters are kept as they are.
+     */
+    public String getPhoneticKey() {
+        return getLowerCaseWords().stream()
+                .map(word -> {
+                    String code = StringUtil.soundex(word);
+                    return code.isEmpty() ? word : code;
+                })
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
 
     @Override
     public String toString() {
@@ -61,7 +98,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // names are compared ignoring case, so they must hash the same way
+        return fullName.toLowerCase().hashCode();
     }
 
 }
@@ -1,17 +1,20 @@
 package seedu.address.model.patient;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Model;
 
 /**
  * Tests that a {@code Patient}'s {@code Name} matches either:
  * - Any of the keywords (case-insensitive prefix match), OR
  * - The full name exactly (case-insensitive), depending on strict mode.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Patient> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
     private final boolean isStrict;
 
@@ -42,13 +45,31 @@ public class NameContainsKeywordsPredicate implements Predicate<Patient> {
         }
 
         // Prefix match: check if any keyword is a prefix of any word in the name
-        String[] wordsInName = patientName.split("\\s+");
+        List<String> wordsInName = patient.getName().getLowerCaseWords();
         return keywords.stream().anyMatch(keyword ->
-                Arrays.stream(wordsInName)
+                wordsInName.stream()
                         .anyMatch(word -> word.startsWith(keyword.toLowerCase()))
         );
     }
 
+    @Override
+    public Set<Patient> findMatches(Model model) {
+        Set<Patient> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!isStrict) {
+            keywords.forEach(keyword -> matches.addAll(model.getPatientsWithNamePrefix(keyword)));
+            return matches;
+        }
+
+        // A full name match must start with the first keyword, so only those patients need to be compared
+        String firstKeyword = keywords.isEmpty() ? "" : keywords.get(0);
+        for (Patient patient : model.getPatientsWithNamePrefix(firstKeyword)) {
+            if (test(patient)) {
+                matches.add(patient);
+            }
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
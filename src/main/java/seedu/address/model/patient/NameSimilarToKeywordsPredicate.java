@@ -0,0 +1,85 @@
+package seedu.address.model.patient;
+
+import static seedu.address.commons.util.StringUtil.editDistance;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.RankedPredicate;
+
+/**
+ * Tests that a word in a {@code Patient}'s {@code Name} is spelt like any of the keywords, that is, within
+ * a maximum number of edits of it (case-insensitive). Patients are ranked by their closest word.
+ */
+public class NameSimilarToKeywordsPredicate implements IndexedPredicate, RankedPredicate {
+    public static final int DEFAULT_MAX_DISTANCE = 2;
+    public static final int MAX_DISTANCE_LIMIT = 3;
+
+    private final List<String> keywords;
+    private final int maxDistance;
+
+    /**
+     * Constructs a {@code NameSimilarToKeywordsPredicate} with the specified keywords and distance.
+     *
+     * @param keywords A list of keywords to match against the words in the patient's name.
+     * @param maxDistance The most characters that may be inserted, deleted or substituted in a word of
+     *                    the patient's name to turn it into a keyword.
+     */
+    public NameSimilarToKeywordsPredicate(List<String> keywords, int maxDistance) {
+        this.keywords = keywords;
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return rank(patient) <= maxDistance;
+    }
+
+    /**
+     * Returns the smallest number of edits that turns a word in the name of {@code patient} into a keyword.
+     */
+    @Override
+    public int rank(Patient patient) {
+        int closest = Integer.MAX_VALUE;
+        for (String word : patient.getName().getLowerCaseWords()) {
+            for (String keyword : keywords) {
+                closest = Math.min(closest, editDistance(word, keyword.toLowerCase()));
+            }
+        }
+        return closest;
+    }
+
+    @Override
+    public Set<Patient> findMatches(Model model) {
+        Set<Patient> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> matches.addAll(model.getPatientsWithNameNear(keyword, maxDistance)));
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords) && maxDistance == otherPredicate.maxDistance;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .add("maxDistance", maxDistance)
+                .toString();
+    }
+}
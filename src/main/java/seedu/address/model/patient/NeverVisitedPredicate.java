@@ -0,0 +1,33 @@
+package seedu.address.model.patient;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Model;
+
+/**
+ * Tests that a {@code Patient} has no last visit.
+ */
+public class NeverVisitedPredicate implements IndexedPredicate {
+
+    @Override
+    public boolean test(Patient patient) {
+        return patient.getLastVisit() == null;
+    }
+
+    @Override
+    public Set<Patient> findMatches(Model model) {
+        return model.getPatientsNeverVisited();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof NeverVisitedPredicate;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
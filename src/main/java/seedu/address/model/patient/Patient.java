@@ -2,11 +2,14 @@ package seedu.address.model.patient;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
+import seedu.address.commons.util.ArraySet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.tag.Tag;
@@ -26,22 +29,65 @@ public class Patient {
     // Data fields
     private final Address address;
     private final LastVisit lastVisit;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Medicine> medicines = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Medicine> medicines;
+
+    // Assigned by the address book, and not part of equality
+    private final PatientId id;
+
+    // Cached as the fields never change, with 0 meaning not yet computed
+    private int hash;
 
     /**
      * Every field must be present and not null.
      */
     public Patient(Name name, Phone phone, Email email, Address address, LastVisit lastVisit,
                    Set<Tag> tags, Set<Medicine> medicines) {
+        this(null, name, phone, email, address, lastVisit, tags, medicines);
+    }
+
+    /**
+     * Creates a patient with the given {@code id}, which may be null if the patient has not been given one yet.
+     * Every other field must be present and not null.
+     */
+    public Patient(PatientId id, Name name, Phone phone, Email email, Address address, LastVisit lastVisit,
+                   Set<Tag> tags, Set<Medicine> medicines) {
         requireAllNonNull(name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.lastVisit = lastVisit;
-        this.tags.addAll(tags);
-        this.medicines.addAll(medicines);
+        // most patients have only a few tags and medicines, which are kept in arrays rather than hash tables
+        this.tags = internAll(tags, Tag::intern);
+        this.medicines = internAll(medicines, Medicine::intern);
+        this.hash = hash(name, phone, email, address, this.tags, this.medicines);
+    }
+
+    /**
+     * Creates a patient whose email, address, tags and medicines are provided by a subclass
+     * overriding {@link #getEmail()}, {@link #getAddress()}, {@link #getTags()} and {@link #getMedicines()}.
+     * Name and phone must be present and not null, and {@code id} may be null.
+     * The hash code is only computed when first needed, so that the subclass is not made to provide its fields early.
+     */
+    protected Patient(PatientId id, Name name, Phone phone, LastVisit lastVisit) {
+        requireAllNonNull(name, phone);
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.email = null;
+        this.address = null;
+        this.lastVisit = lastVisit;
+        this.tags = Collections.emptySet();
+        this.medicines = Collections.emptySet();
+    }
+
+    /**
+     * Returns the id of this patient, or null if the patient has not been added to an address book.
+     */
+    public PatientId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -69,16 +115,25 @@ public class Patient {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
-     * Returns the set of all medicines tagged to this patient.
+     * Returns an immutable set of all medicines tagged to this patient, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
      */
     public Set<Medicine> getMedicines() {
         return medicines;
     }
 
+    /**
+     * Returns a copy of this patient with the given {@code id}.
+     */
+    public Patient withId(PatientId id) {
+        return new Patient(id, getName(), getPhone(), getEmail(), getAddress(), getLastVisit(), getTags(),
+                getMedicines());
+    }
+
     /**
      * Returns true if both patients have the same name.
      * This defines a weaker notion of equality between two patients.
@@ -95,6 +150,7 @@ public class Patient {
     /**
      * Returns true if both patients have the same identity and data fields.
      * This defines a stronger notion of equality between two patients.
+     * The ids of the patients are not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -109,38 +165,79 @@ public class Patient {
 
         Patient otherPatient = (Patient) other;
 
+        // patients with different hash codes cannot be equal
+        if (hashCode() != otherPatient.hashCode()) {
+            return false;
+        }
+
         // lastVisit can be null, handle separately
-        if (lastVisit == null) {
-            if (otherPatient.lastVisit != null) {
+        if (getLastVisit() == null) {
+            if (otherPatient.getLastVisit() != null) {
                 return false;
             }
         }
 
-        return name.equals(otherPatient.name)
-                && phone.equals(otherPatient.phone)
-                && email.equals(otherPatient.email)
-                && address.equals(otherPatient.address)
+        // fields are read through their getters, as subclasses may provide them
+        return getName().equals(otherPatient.getName())
+                && getPhone().equals(otherPatient.getPhone())
+                && getEmail().equals(otherPatient.getEmail())
+                && getAddress().equals(otherPatient.getAddress())
                 // && lastVisit.equals(otherPatient.lastVisit)
-                && tags.equals(otherPatient.tags)
-                && medicines.equals(otherPatient.medicines);
+                && getTags().equals(otherPatient.getTags())
+                && getMedicines().equals(otherPatient.getMedicines());
     }
 
+    /**
+     * Returns the hash code of this patient, which is computed once and then cached.
+     * The last visit date is left out, as it is not compared by {@link #equals(Object)}.
+     */
     @Override
     public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = hash(getName(), getPhone(), getEmail(), getAddress(), getTags(), getMedicines());
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Returns the shared instances of {@code items}, as given by {@code intern}, in an {@code ArraySet}.
+     */
+    private static <E> Set<E> internAll(Set<E> items, UnaryOperator<E> intern) {
+        boolean isInterned = true;
+        for (E item : items) {
+            if (intern.apply(item) != item) {
+                isInterned = false;
+                break;
+            }
+        }
+        if (isInterned) {
+            return ArraySet.copyOf(items);
+        }
+        List<E> interned = new ArrayList<>(items.size());
+        for (E item : items) {
+            interned.add(intern.apply(item));
+        }
+        return ArraySet.copyOf(interned);
+    }
+
+    private static int hash(Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+                            Set<Medicine> medicines) {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, lastVisit, tags, medicines);
+        return Objects.hash(name, phone, email, address, tags, medicines);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
-                .add("lastVisit", lastVisit)
-                .add("tags", tags)
-                .add("medicines", medicines)
+                .add("name", getName())
+                .add("phone", getPhone())
+                .add("email", getEmail())
+                .add("address", getAddress())
+                .add("lastVisit", getLastVisit())
+                .add("tags", getTags())
+                .add("medicines", getMedicines())
                 .toString();
     }
 
@@ -0,0 +1,84 @@
+package seedu.address.model.patient;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Patient} has all of the given tags, or any of them if {@code isMatchAny} is set.
+ */
+public class PatientHasTagsPredicate implements IndexedPredicate {
+    private final List<Tag> tags;
+    private final boolean isMatchAny;
+
+    /**
+     * Constructs a {@code PatientHasTagsPredicate} with the specified tags and matching mode.
+     *
+     * @param tags A non-empty list of tags to look for.
+     * @param isMatchAny If {@code true}, matches patients with any of the tags; if {@code false},
+     *                   matches only patients with all of them.
+     */
+    public PatientHasTagsPredicate(List<Tag> tags, boolean isMatchAny) {
+        this.tags = tags;
+        this.isMatchAny = isMatchAny;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        Set<Tag> patientTags = patient.getTags();
+        return isMatchAny
+                ? tags.stream().anyMatch(patientTags::contains)
+                : patientTags.containsAll(tags);
+    }
+
+    @Override
+    public Set<Patient> findMatches(Model model) {
+        List<Set<Patient>> taggedPatients = tags.stream()
+                .map(model::getPatientsWithTag)
+                .collect(Collectors.toList());
+        Set<Patient> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (isMatchAny) {
+            taggedPatients.forEach(matches::addAll);
+            return matches;
+        }
+
+        // Only the patients with the rarest tag need to be checked for the other tags
+        Set<Patient> rarest = Collections.min(taggedPatients, Comparator.comparingInt(Set::size));
+        for (Patient patient : rarest) {
+            if (taggedPatients.stream().allMatch(patients -> patients.contains(patient))) {
+                matches.add(patient);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PatientHasTagsPredicate)) {
+            return false;
+        }
+
+        PatientHasTagsPredicate otherPredicate = (PatientHasTagsPredicate) other;
+        return tags.equals(otherPredicate.tags) && isMatchAny == otherPredicate.isMatchAny;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("isMatchAny", isMatchAny)
+                .toString();
+    }
+}
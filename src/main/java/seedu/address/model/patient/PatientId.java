@@ -0,0 +1,79 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigits;
+
+/**
+ * Represents the id of a patient in the address book, which stays the same for as long as the patient is kept,
+ * unlike the patient's position in the displayed list.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ */
+public class PatientId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Patient ids should be positive whole numbers.";
+    public static final String VALIDATION_REGEX = "\\d{1,18}";
+    private static final int MAX_LENGTH = 18;
+    public final long value;
+
+    /**
+     * Constructs a {@code PatientId}.
+     *
+     * @param id A valid id.
+     */
+    public PatientId(long id) {
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = id;
+    }
+
+    /**
+     * Constructs a {@code PatientId} from its string form.
+     *
+     * @param id A valid id.
+     */
+    public PatientId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = Long.parseLong(id);
+    }
+
+    /**
+     * Returns true if a given number is a valid id.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    /**
+     * Returns true if a given string is a valid id.
+     */
+    public static boolean isValidId(String test) {
+        return isAsciiDigits(test, 1, MAX_LENGTH) && isValidId(Long.parseLong(test));
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PatientId)) {
+            return false;
+        }
+
+        PatientId otherId = (PatientId) other;
+        return value == otherId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.patient;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * Tests that a {@code Patient} is prescribed any of the given medicines, ignoring case.
+ */
+public class PatientTakesMedicinesPredicate implements IndexedPredicate {
+    private final List<Medicine> medicines;
+
+    public PatientTakesMedicinesPredicate(List<Medicine> medicines) {
+        this.medicines = medicines;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        Set<Medicine> patientMedicines = patient.getMedicines();
+        return medicines.stream().anyMatch(patientMedicines::contains);
+    }
+
+    @Override
+    public Set<Patient> findMatches(Model model) {
+        Set<Patient> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        medicines.forEach(medicine -> matches.addAll(model.getPatientsOnMedicine(medicine)));
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PatientTakesMedicinesPredicate)) {
+            return false;
+        }
+
+        PatientTakesMedicinesPredicate otherPredicate = (PatientTakesMedicinesPredicate) other;
+        return medicines.equals(otherPredicate.medicines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("medicines", medicines)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.patient;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigits;
 
 /**
  * Represents a patient's phone number in the address book.
@@ -13,6 +14,8 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be between 3 and 16 digits long.";
     public static final String VALIDATION_REGEX = "\\d{3,16}";
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 16;
     public final String value;
 
     /**
@@ -30,7 +33,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAsciiDigits(test, MIN_LENGTH, MAX_LENGTH);
     }
 
     @Override
@@ -3,10 +3,17 @@ package seedu.address.model.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
@@ -21,21 +28,34 @@ import seedu.address.model.patient.exceptions.PatientNotFoundException;
  * However, the removal of a patient uses patient#equals(Object)
  * to ensure that the patient with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
+ * Patients are also indexed by their case-folded name, giving their position in the list, so that identity checks,
+ * lookups and replacements take constant time.
  *
  * @see Patient#isSamePatient(Patient)
  */
 public class UniquePatientList implements Iterable<Patient> {
 
-    private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
+    private final PatientObservableList internalList = new PatientObservableList();
     private final ObservableList<Patient> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Maps the identity key of each patient to its position in {@code internalList}. */
+    private Map<String, Integer> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePatient);
+        return identityIndex.containsKey(identityKeyOf(toCheck));
+    }
+
+    /**
+     * Returns the patient in the list with the same identity as {@code patient}, or null if there is none.
+     */
+    public Patient getSamePatient(Patient patient) {
+        requireNonNull(patient);
+        Integer position = identityIndex.get(identityKeyOf(patient));
+        return position == null ? null : internalList.get(position);
     }
 
     /**
@@ -47,6 +67,7 @@ public class UniquePatientList implements Iterable<Patient> {
         if (contains(toAdd)) {
             throw new DuplicatePatientException();
         }
+        identityIndex.put(identityKeyOf(toAdd), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -58,16 +79,68 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PatientNotFoundException();
-        }
+        String targetKey = identityKeyOf(target);
+        int index = positionOf(target, targetKey);
 
-        if (!target.isSamePatient(editedPatient) && contains(editedPatient)) {
+        String editedKey = identityKeyOf(editedPatient);
+        boolean isIdentityChanged = !editedKey.equals(targetKey);
+        if (isIdentityChanged && identityIndex.containsKey(editedKey)) {
             throw new DuplicatePatientException();
         }
 
         internalList.set(index, editedPatient);
+        if (isIdentityChanged) {
+            identityIndex.remove(targetKey);
+            identityIndex.put(editedKey, index);
+        }
+    }
+
+    /**
+     * Replaces each patient in {@code targets} with the patient at the same position in {@code editedPatients},
+     * notifying listeners of the list with a single change that replaces only those patients.
+     * Every target must exist in the list, and must appear only once in {@code targets}.
+     * The edited patients must not have the same identity as each other, or as a patient in the list other than
+     * their own target, unless that patient is one of the targets and is itself given a new identity.
+     * If they do, this list is left unchanged.
+     */
+    public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+        requireAllNonNull(targets, editedPatients);
+        assert targets.size() == editedPatients.size();
+
+        int[] positions = new int[targets.size()];
+        String[] movedFromKeys = new String[targets.size()];
+        String[] movedToKeys = new String[targets.size()];
+        Set<String> freedKeys = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            String targetKey = identityKeyOf(targets.get(i));
+            positions[i] = positionOf(targets.get(i), targetKey);
+            String editedKey = identityKeyOf(editedPatients.get(i));
+            if (!editedKey.equals(targetKey)) {
+                movedFromKeys[i] = targetKey;
+                movedToKeys[i] = editedKey;
+                freedKeys.add(targetKey);
+            }
+        }
+        // An edited patient may take the identity of a target that is being given another one, e.g. A to B and B to C
+        Map<String, Integer> movedKeys = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            String editedKey = movedToKeys[i];
+            if (editedKey == null) {
+                continue;
+            }
+            if ((identityIndex.containsKey(editedKey) && !freedKeys.contains(editedKey))
+                    || movedKeys.put(editedKey, positions[i]) != null) {
+                throw new DuplicatePatientException();
+            }
+        }
+
+        internalList.setEach(positions, editedPatients);
+        for (String movedFromKey : movedFromKeys) {
+            if (movedFromKey != null) {
+                identityIndex.remove(movedFromKey);
+            }
+        }
+        identityIndex.putAll(movedKeys);
     }
 
     /**
@@ -76,27 +149,60 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        String key = identityKeyOf(toRemove);
+        int index = positionOf(toRemove, key);
+
+        internalList.remove(index);
+        identityIndex.remove(key);
+        // Patients after the removed one move up a place
+        for (int i = index; i < internalList.size(); i++) {
+            identityIndex.put(identityKeyOf(internalList.get(i)), i);
+        }
+    }
+
+    /**
+     * Returns the position of the patient in the list that equals {@code patient}, whose identity key is {@code key}.
+     *
+     * @throws PatientNotFoundException if there is no such patient.
+     */
+    private int positionOf(Patient patient, String key) {
+        Integer position = identityIndex.get(key);
+        // Equal patients have the same name, so only the patient with the same identity can equal it
+        if (position == null || !internalList.get(position).equals(patient)) {
             throw new PatientNotFoundException();
         }
+        return position;
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex = new HashMap<>(replacement.identityIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code patients}.
      * {@code patients} must not contain duplicate patients.
+     * Uniqueness is checked in a single pass; if it fails, this list is left unchanged and the
+     * {@code DuplicatePatientException} reports the position of every duplicate entry.
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
-        if (!patientsAreUnique(patients)) {
-            throw new DuplicatePatientException();
+        Map<String, Integer> newIdentityIndex = new HashMap<>(Math.max(16, (int) (patients.size() / 0.75f) + 1));
+        List<Integer> duplicatePositions = new ArrayList<>();
+        int position = 0;
+        for (Patient patient : patients) {
+            if (newIdentityIndex.putIfAbsent(identityKeyOf(patient), position) != null) {
+                duplicatePositions.add(position);
+            }
+            position++;
+        }
+        if (!duplicatePositions.isEmpty()) {
+            throw new DuplicatePatientException(duplicatePositions);
         }
 
         internalList.setAll(patients);
+        identityIndex = newIdentityIndex;
     }
 
     /**
@@ -137,16 +243,87 @@ public class UniquePatientList implements Iterable<Patient> {
     }
 
     /**
-     * Returns true if {@code patients} contains only unique patients.
+     * Returns the key under which {@code patient} is indexed.
+     * Two patients have the same key if and only if {@link Patient#isSamePatient(Patient)} holds for them,
+     * as each code point is folded the same way {@link String#equalsIgnoreCase(String)} compares it.
      */
-    private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePatient(patients.get(j))) {
-                    return false;
+    static String identityKeyOf(Patient patient) {
+        String name = patient.getName().toString();
+        if (name.codePoints().allMatch(codePoint -> foldCase(codePoint) == codePoint)) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name.length());
+        name.codePoints().forEach(codePoint -> key.appendCodePoint(foldCase(codePoint)));
+        return key.toString();
+    }
+
+    private static int foldCase(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    /**
+     * An observable list of patients that can replace several patients with a single change, which holds a
+     * replacement of each of them rather than of the whole list, so that listeners only update those patients.
+     */
+    private static class PatientObservableList extends ModifiableObservableListBase<Patient> {
+        private List<Patient> patients = new ArrayList<>();
+
+        /**
+         * Replaces the patient at each of {@code positions} with the patient at the same index in {@code replacements}.
+         */
+        void setEach(int[] positions, List<Patient> replacements) {
+            beginChange();
+            try {
+                for (int i = 0; i < positions.length; i++) {
+                    set(positions[i], replacements.get(i));
                 }
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Replaces all the patients at once, as removing them one at a time takes quadratic time.
+         */
+        @Override
+        public boolean setAll(Collection<? extends Patient> replacements) {
+            beginChange();
+            try {
+                List<Patient> removed = patients;
+                patients = new ArrayList<>(replacements);
+                modCount++;
+                nextRemove(0, removed);
+                nextAdd(0, patients.size());
+            } finally {
+                endChange();
             }
+            return true;
+        }
+
+        @Override
+        public Patient get(int index) {
+            return patients.get(index);
+        }
+
+        @Override
+        public int size() {
+            return patients.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Patient patient) {
+            patients.add(index, patient);
+        }
+
+        @Override
+        protected Patient doSet(int index, Patient patient) {
+            return patients.set(index, patient);
+        }
+
+        @Override
+        protected Patient doRemove(int index) {
+            return patients.remove(index);
         }
-        return true;
     }
+
 }
@@ -1,4 +1,9 @@
 package seedu.address.model.patient.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Signals that the operation will result in duplicate Patients
  * (Patients are considered duplicates if they have the same
@@ -6,7 +11,27 @@ package seedu.address.model.patient.exceptions;
  */
 
 public class DuplicatePatientException extends RuntimeException {
+    private final List<Integer> duplicatePositions;
+
     public DuplicatePatientException() {
         super("Operation would result in duplicate patients");
+        duplicatePositions = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception for a bulk operation whose input has duplicates at {@code duplicatePositions}.
+     * Each position is the zero-based index of an entry that repeats the identity of an earlier entry.
+     */
+    public DuplicatePatientException(List<Integer> duplicatePositions) {
+        super("Operation would result in duplicate patients at positions "
+                + duplicatePositions.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+        this.duplicatePositions = Collections.unmodifiableList(duplicatePositions);
+    }
+
+    /**
+     * Returns the zero-based positions of the duplicate entries, or an empty list if they are not known.
+     */
+    public List<Integer> getDuplicatePositions() {
+        return duplicatePositions;
     }
 }
@@ -2,6 +2,10 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Tag in the address book.
@@ -13,6 +17,10 @@ public class Tag {
             "Tags should only contain letters, numbers, hyphens (-), and underscores (_).";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9_-]+$";
 
+    // Only a few hundred distinct names are in use, so every stored tag with the same name can be shared.
+    // Only names that are stored are kept here, so that names which are only typed, e.g. in a search, are not.
+    private static final Map<String, Tag> INTERNED = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -26,11 +34,41 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the name {@code tagName}, creating it on first use.
+     * This is for names that are being stored, such as those read from a data file.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return INTERNED.computeIfAbsent(tagName, Tag::new);
+    }
+
+    /**
+     * Returns the shared {@code Tag} with the same name as {@code tag}, which becomes the shared one
+     * if there is none yet. This is for tags that are being stored, such as those given to a patient.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        Tag shared = INTERNED.putIfAbsent(tag.tagName, tag);
+        return shared == null ? tag : shared;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != '_' && c != '-' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
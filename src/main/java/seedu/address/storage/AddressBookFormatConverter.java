@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the json and binary formats.
+ * Files ending in {@value #JSON_EXTENSION} are treated as json, and all other files as binary.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String JSON_EXTENSION = ".json";
+    public static final String BINARY_EXTENSION = ".bin";
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFormatConverter SOURCE_FILE TARGET_FILE";
+    public static final String MESSAGE_SOURCE_MISSING = "Source file %1$s does not exist";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    /**
+     * Reads the address book in {@code source} and writes it to {@code target},
+     * each in the format given by its file extension.
+     *
+     * @throws DataLoadingException if {@code source} is missing or cannot be read.
+     * @throws IOException if {@code target} cannot be written.
+     */
+    public static void convert(Path source, Path target) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = storageFor(source).readAddressBook();
+        if (addressBook.isEmpty()) {
+            throw new DataLoadingException(new IOException(String.format(MESSAGE_SOURCE_MISSING, source)));
+        }
+        storageFor(target).saveAddressBook(addressBook.get());
+        logger.info("Converted " + source + " to " + target);
+    }
+
+    /**
+     * Returns the storage for the file at {@code filePath}, in the format given by its file extension.
+     */
+    public static AddressBookStorage storageFor(Path filePath) {
+        if (filePath.getFileName().toString().endsWith(JSON_EXTENSION)) {
+            return new JsonAddressBookStorage(filePath);
+        }
+        return new BinaryAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns {@code filePath} with its extension, if any, replaced by {@code extension}.
+     */
+    public static Path withExtension(Path filePath, String extension) {
+        String fileName = filePath.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        String baseName = dotIndex > 0 ? fileName.substring(0, dotIndex) : fileName;
+        return filePath.resolveSibling(baseName + extension);
+    }
+
+    /**
+     * Converts the file given as the first argument into the file given as the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Saves address books through an {@code AddressBookStorage} on a single background thread.
+ * Each request takes a snapshot of the address book, so the caller may keep modifying it straight away.
+ * Requests that arrive while a write is in progress are coalesced, and only the latest snapshot is written.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean(false);
+    private final AtomicReference<IOException> lastFailure = new AtomicReference<>();
+
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Requests that {@code addressBook} be saved, without waiting for the write.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingSnapshot.set(new Snapshot(addressBook.getPatientList(), addressBook.getLastId()));
+        if (isWriteScheduled.compareAndSet(false, true)) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Returns the error of the latest write if it failed, and forgets it so that it is only reported once.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(lastFailure.getAndSet(null));
+    }
+
+    /**
+     * Blocks until every requested save has been attempted, whether or not it succeeded.
+     */
+    public void awaitPendingWrites() throws InterruptedIOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            throw new AssertionError("Waiting does no work that can fail", e);
+        }
+    }
+
+    /**
+     * Blocks until every requested save has been written.
+     *
+     * @throws IOException if the latest write failed.
+     */
+    public void flush() throws IOException {
+        awaitPendingWrites();
+        Optional<IOException> failure = takeFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Writes every requested save and then stops the background thread.
+     *
+     * @throws IOException if the latest write failed.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writePendingSnapshot() {
+        isWriteScheduled.set(false);
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            lastFailure.set(null);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            lastFailure.set(e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e));
+        }
+    }
+
+    /**
+     * An unchanging copy of the patient list and last id of an address book.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Patient> patients;
+        private final long lastId;
+
+        Snapshot(List<Patient> patients, long lastId) {
+            this.patients = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(patients));
+            this.lastId = lastId;
+        }
+
+        @Override
+        public ObservableList<Patient> getPatientList() {
+            return patients;
+        }
+
+        @Override
+        public long getLastId() {
+            return lastId;
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Address;
+import seedu.address.model.patient.Email;
+import seedu.address.model.patient.LastVisit;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes and decodes address books in the binary format of {@link BinaryAddressBookStorage}.
+ * All numbers are big-endian ints except ids, which are longs, and the file is laid out as follows:
+ * <pre>
+ * file     := MAGIC VERSION lastId tagCount string* medicineCount string* patientCount record* checksum
+ * record   := id length name:string phone:string email:string address:string lastVisit
+ *             tagCount tagIndex* medicineCount medicineIndex*
+ * string   := byteCount utf8Bytes
+ * </pre>
+ * Tags and medicines are stored once in the dictionaries at the start, and records refer to them by index.
+ * {@code lastVisit} is the epoch day of the date, or {@link #NO_LAST_VISIT}.
+ * {@code length} is the number of bytes in the rest of the record, so that a record can be skipped unread.
+ * {@code id} is the id of the patient, or {@link #NO_ID}. It is kept out of the counted bytes so that records
+ * can be copied unchanged when a patient is given a new id. Files of version 1 have no ids.
+ * {@code lastId} is the highest id ever given to a patient, which must not be given again. Files of versions 1 and 2
+ * have no {@code lastId}.
+ * {@code checksum} is the CRC-32C of all the bytes before it. It comes last so that a file can be written in one pass,
+ * and lets a file be checked for damage without decoding its records. Files of versions 1 to 3 have no
+ * {@code checksum}.
+ */
+class BinaryAddressBookFormat {
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "The file is not in the CareConnect binary format";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary format version %1$d";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Patient record %1$d is corrupted";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The file is damaged, as its checksum does not match";
+
+    static final int MAGIC = 0x43434142; // "CCAB"
+    static final int VERSION = 4;
+    static final int VERSION_WITHOUT_IDS = 1;
+    static final int VERSION_WITHOUT_LAST_ID = 2;
+    static final int VERSION_WITHOUT_CHECKSUM = 3;
+    static final int NO_LAST_VISIT = Integer.MIN_VALUE;
+    static final long NO_ID = 0;
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     * Records of patients read by {@link #readLazily(ByteBuffer)} are copied over without being decoded.
+     */
+    static void write(ReadOnlyAddressBook addressBook, DataOutputStream fileOut) throws IOException {
+        CRC32C checksum = new CRC32C();
+        DataOutputStream out = new DataOutputStream(new CheckedOutputStream(fileOut, checksum));
+        List<Patient> patients = addressBook.getPatientList();
+        Dictionaries copiedDictionaries = findLazilyReadDictionaries(patients);
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        Map<String, Integer> medicineIndexes = new LinkedHashMap<>();
+        if (copiedDictionaries != null) {
+            // Copied records refer to tags and medicines by their index in the file they were read from
+            copiedDictionaries.tags.forEach(tag -> tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size()));
+            copiedDictionaries.medicines.forEach(medicine ->
+                    medicineIndexes.putIfAbsent(medicine.medName, medicineIndexes.size()));
+        }
+        for (Patient patient : patients) {
+            if (isCopiable(patient, copiedDictionaries)) {
+                continue;
+            }
+            patient.getTags().forEach(tag -> tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size()));
+            patient.getMedicines().forEach(medicine ->
+                    medicineIndexes.putIfAbsent(medicine.medName, medicineIndexes.size()));
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(addressBook.getLastId());
+        writeDictionary(tagIndexes, out);
+        writeDictionary(medicineIndexes, out);
+        out.writeInt(patients.size());
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Patient patient : patients) {
+            out.writeLong(patient.getId() == null ? NO_ID : patient.getId().value);
+            if (isCopiable(patient, copiedDictionaries)) {
+                ((LazyPatient) patient).getRecord().writeTo(out);
+                continue;
+            }
+            recordBytes.reset();
+            writeString(patient.getName().fullName, record);
+            writeString(patient.getPhone().value, record);
+            writeString(patient.getEmail().value, record);
+            writeString(patient.getAddress().value, record);
+            record.writeInt(patient.getLastVisit() == null
+                    ? NO_LAST_VISIT
+                    : Math.toIntExact(patient.getLastVisit().lastVisitDate.toEpochDay()));
+            record.writeInt(patient.getTags().size());
+            for (Tag tag : patient.getTags()) {
+                record.writeInt(tagIndexes.get(tag.tagName));
+            }
+            record.writeInt(patient.getMedicines().size());
+            for (Medicine medicine : patient.getMedicines()) {
+                record.writeInt(medicineIndexes.get(medicine.medName));
+            }
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+        out.flush();
+        fileOut.writeInt((int) checksum.getValue());
+    }
+
+    private static Dictionaries findLazilyReadDictionaries(List<Patient> patients) {
+        for (Patient patient : patients) {
+            if (patient instanceof LazyPatient) {
+                return ((LazyPatient) patient).getDictionaries();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCopiable(Patient patient, Dictionaries copiedDictionaries) {
+        return patient instanceof LazyPatient && ((LazyPatient) patient).getDictionaries() == copiedDictionaries;
+    }
+
+    /**
+     * Reads an address book from {@code file}, which holds the whole content of a file in this format.
+     *
+     * @throws IOException if {@code file} is not in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(ByteBuffer file) throws IOException, IllegalValueException {
+        return readRecords(file, (id, record, position, dictionaries) ->
+                decodePatient(id, record.slice(), position, dictionaries));
+    }
+
+    /**
+     * Reads an address book from {@code file} like {@link #read(ByteBuffer)}, but keeps only the name, phone
+     * and last visit of each patient. The other fields are only decoded from {@code file} when they are first used,
+     * so {@code file} must not change while the address book is in use. On loading, they are only checked to fit
+     * within their record, and the file is checked against its checksum, so that a damaged file fails the load.
+     */
+    static AddressBook readLazily(ByteBuffer file) throws IOException, IllegalValueException {
+        return readRecords(file, (id, record, position, dictionaries) -> {
+            ByteBuffer buffer = record.slice();
+            try {
+                Name name = decodeValue(readString(buffer), Name::new, Name.MESSAGE_CONSTRAINTS);
+                Phone phone = decodeValue(readString(buffer), Phone::new, Phone.MESSAGE_CONSTRAINTS);
+                skipString(buffer);
+                skipString(buffer);
+                LastVisit lastVisit = decodeLastVisit(buffer.getInt());
+                skipIndexes(buffer, dictionaries.tags.size());
+                skipIndexes(buffer, dictionaries.medicines.size());
+                if (buffer.hasRemaining()) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, position + 1));
+                }
+                return new LazyPatient(id, name, phone, lastVisit, record, position, dictionaries);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, position + 1), e);
+            }
+        });
+    }
+
+    private static AddressBook readRecords(ByteBuffer file, RecordDecoder decoder)
+            throws IOException, IllegalValueException {
+        try {
+            file.position(0);
+            int version = readVersion(file);
+            if (version > VERSION_WITHOUT_CHECKSUM) {
+                checkChecksum(file);
+            }
+            long lastId = version > VERSION_WITHOUT_LAST_ID ? file.getLong() : 0;
+            Dictionaries dictionaries = readDictionaries(file);
+            int patientCount = file.getInt();
+            List<Patient> patients = new ArrayList<>(Math.max(patientCount, 0));
+            for (int i = 0; i < patientCount; i++) {
+                PatientId id = version == VERSION_WITHOUT_IDS ? null : decodeId(file.getLong(), i);
+                int length = file.getInt();
+                if (length < 0 || length > file.remaining()) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, i + 1));
+                }
+                patients.add(decoder.decode(id, new Record(file, file.position(), length), i, dictionaries));
+                file.position(file.position() + length);
+            }
+            return JsonSerializableAddressBook.toAddressBook(patients, lastId);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_NOT_BINARY_FORMAT, e);
+        }
+    }
+
+    /**
+     * Reads the magic number and version at the start of {@code file}, and returns the version.
+     */
+    private static int readVersion(ByteBuffer file) throws IOException {
+        if (file.getInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = file.getInt();
+        if (version < VERSION_WITHOUT_IDS || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    /**
+     * Checks that the checksum at the end of {@code file} is the checksum of the bytes before it, then sets the limit
+     * of {@code file} to the start of the checksum.
+     * This is a single pass over {@code file}, which decodes nothing.
+     */
+    private static void checkChecksum(ByteBuffer file) throws IOException {
+        int end = file.limit() - Integer.BYTES;
+        if (end < file.position()) {
+            throw new BufferUnderflowException();
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(file.slice(0, end));
+        if ((int) checksum.getValue() != file.getInt(end)) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        file.limit(end);
+    }
+
+    /**
+     * Reads the tag and medicine dictionaries that follow the version in {@code file}.
+     */
+    private static Dictionaries readDictionaries(ByteBuffer file) throws IllegalValueException {
+        List<Tag> tags = new ArrayList<>();
+        for (int count = file.getInt(); count > 0; count--) {
+            tags.add(decodeValue(readString(file), Tag::of, Tag.MESSAGE_CONSTRAINTS));
+        }
+        List<Medicine> medicines = new ArrayList<>();
+        for (int count = file.getInt(); count > 0; count--) {
+            medicines.add(decodeValue(readString(file), Medicine::of, Medicine.MESSAGE_CONSTRAINTS));
+        }
+        return new Dictionaries(tags, medicines);
+    }
+
+    /**
+     * Decodes the id of the patient record at {@code position}, which is null for {@link #NO_ID}.
+     */
+    private static PatientId decodeId(long id, int position) throws IOException {
+        if (id == NO_ID) {
+            return null;
+        }
+        if (!PatientId.isValidId(id)) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, position + 1));
+        }
+        return new PatientId(id);
+    }
+
+    /**
+     * Decodes the body of the patient record at {@code position}, which fills the remainder of {@code record},
+     * into a patient with the given {@code id}.
+     */
+    static Patient decodePatient(PatientId id, ByteBuffer record, int position, Dictionaries dictionaries)
+            throws IOException, IllegalValueException {
+        try {
+            Name name = decodeValue(readString(record), Name::new, Name.MESSAGE_CONSTRAINTS);
+            Phone phone = decodeValue(readString(record), Phone::new, Phone.MESSAGE_CONSTRAINTS);
+            Email email = decodeEmail(record);
+            Address address = decodeAddress(record);
+            LastVisit lastVisit = decodeLastVisit(record.getInt());
+            Set<Tag> tags = decodeTags(record, dictionaries);
+            Set<Medicine> medicines = decodeMedicines(record, dictionaries);
+            return new Patient(id, name, phone, email, address, lastVisit, tags, medicines);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, position + 1), e);
+        }
+    }
+
+    static Email decodeEmail(ByteBuffer record) throws IllegalValueException {
+        return decodeValue(readString(record), Email::new, Email.MESSAGE_CONSTRAINTS);
+    }
+
+    static Address decodeAddress(ByteBuffer record) throws IllegalValueException {
+        return decodeValue(readString(record), Address::new, Address.MESSAGE_CONSTRAINTS);
+    }
+
+    static Set<Tag> decodeTags(ByteBuffer record, Dictionaries dictionaries) {
+        Set<Tag> tags = new HashSet<>();
+        for (int count = record.getInt(); count > 0; count--) {
+            tags.add(dictionaries.tags.get(record.getInt()));
+        }
+        return tags;
+    }
+
+    static Set<Medicine> decodeMedicines(ByteBuffer record, Dictionaries dictionaries) {
+        Set<Medicine> medicines = new HashSet<>();
+        for (int count = record.getInt(); count > 0; count--) {
+            medicines.add(dictionaries.medicines.get(record.getInt()));
+        }
+        return medicines;
+    }
+
+    static LastVisit decodeLastVisit(int epochDay) throws IllegalValueException {
+        if (epochDay == NO_LAST_VISIT) {
+            return null;
+        }
+        LocalDate lastVisitDate;
+        try {
+            lastVisitDate = LocalDate.ofEpochDay(epochDay);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(LastVisit.MESSAGE_CONSTRAINTS);
+        }
+        if (!LastVisit.isValidLastVisit(lastVisitDate)) {
+            throw new IllegalValueException(LastVisit.MESSAGE_CONSTRAINTS);
+        }
+        return new LastVisit(lastVisitDate);
+    }
+
+    /**
+     * Skips a count of dictionary indexes and the indexes that follow it in {@code record}.
+     *
+     * @throws IndexOutOfBoundsException if an index is not within a dictionary of {@code dictionarySize} entries.
+     */
+    private static void skipIndexes(ByteBuffer record, int dictionarySize) {
+        for (int count = record.getInt(); count > 0; count--) {
+            int index = record.getInt();
+            if (index < 0 || index >= dictionarySize) {
+                throw new IndexOutOfBoundsException(index);
+            }
+        }
+    }
+
+    static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readStringLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void skipString(ByteBuffer buffer) {
+        int length = readStringLength(buffer);
+        buffer.position(buffer.position() + length);
+    }
+
+    private static int readStringLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeDictionary(Map<String, Integer> indexes, DataOutputStream out) throws IOException {
+        out.writeInt(indexes.size());
+        for (String value : indexes.keySet()) {
+            writeString(value, out);
+        }
+    }
+
+    /**
+     * Creates a value object from {@code value} with {@code constructor}, which validates {@code value}
+     * so that it does not have to be validated here as well.
+     */
+    private static <T> T decodeValue(String value, Function<String, T> constructor, String messageConstraints)
+            throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(messageConstraints);
+        }
+    }
+
+    /**
+     * The position of a patient record within a file.
+     */
+    static class Record {
+        final ByteBuffer file;
+        final int offset;
+        final int length;
+
+        Record(ByteBuffer file, int offset, int length) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns a new buffer over the bytes of this record.
+         */
+        ByteBuffer slice() {
+            return file.slice(offset, length);
+        }
+
+        /**
+         * Writes the length and bytes of this record to {@code out}.
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            byte[] bytes = new byte[length];
+            file.get(offset, bytes);
+            out.writeInt(length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Decodes the patient record at {@code position} of a file, whose id has already been read.
+     */
+    @FunctionalInterface
+    private interface RecordDecoder {
+        Patient decode(PatientId id, Record record, int position, Dictionaries dictionaries) throws IOException,
+                IllegalValueException;
+    }
+
+    /**
+     * The tags and medicines that patient records refer to by index.
+     */
+    static class Dictionaries {
+        final List<Tag> tags;
+        final List<Medicine> medicines;
+
+        Dictionaries(List<Tag> tags, List<Medicine> medicines) {
+            this.tags = tags;
+            this.medicines = medicines;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.exceptions.DuplicatePatientException;
+import seedu.address.storage.JsonAdaptedJournalRecord.Operation;
+
+/**
+ * A class to access CareConnect data stored as a json snapshot plus an append-only journal of changes.
+ * The snapshot uses the same format as {@link JsonAddressBookStorage}, so either class can read it.
+ * Saving appends one record per changed patient to the journal; the snapshot is only rewritten when the
+ * journal grows larger than the snapshot, or when the changes cannot be expressed as records.
+ * The journal starts with a header holding the checksum of the snapshot it applies to, so a journal
+ * left behind by an interrupted compaction is recognised as stale and ignored.
+ * The highest id given to a patient is journaled whenever it rises, so ids are not reused after a restart.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    static final String JOURNAL_HEADER_PREFIX = "careconnect-journal v1 ";
+    static final int DEFAULT_MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int minRecordsBeforeCompaction;
+
+    // The patient list as last written to filePath, or null if it is not known.
+    private List<Patient> savedPatients;
+    // The highest id given to a patient that filePath shows
+    private long savedLastId;
+    private int journalRecordCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_RECORDS_BEFORE_COMPACTION);
+    }
+
+    JournaledAddressBookStorage(Path filePath, int minRecordsBeforeCompaction) {
+        this.filePath = filePath;
+        this.minRecordsBeforeCompaction = minRecordsBeforeCompaction;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot at {@code filePath} and replays the journal next to it, if there is one.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<Patient> patients;
+        long lastId;
+        Replay replay;
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            AddressBook snapshot = JsonAddressBookReader.read(in);
+            patients = new ArrayList<>(snapshot.getPatientList());
+            in.transferTo(OutputStream.nullOutputStream());
+            replay = replayJournal(getJournalFilePath(filePath), in.getChecksum().getValue(), patients);
+            lastId = Math.max(snapshot.getLastId(), replay.lastId);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.reserveIdsUpTo(lastId);
+        try {
+            addressBook.setPatients(patients);
+        } catch (DuplicatePatientException dpe) {
+            logger.info("Replaying the journal of " + filePath + " produced duplicates: " + dpe.getMessage());
+            throw new DataLoadingException(dpe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // A journal that cannot be appended to is replaced on the next save. Patients journaled without ids
+            // have been replaced by copies with ids, so the baseline is the list the address book holds.
+            savedPatients = replay.recordCount < 0 ? null : new ArrayList<>(addressBook.getPatientList());
+            savedLastId = addressBook.getLastId();
+            journalRecordCount = Math.max(replay.recordCount, 0);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own file are journaled; other files receive a plain snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<Patient> patients = addressBook.getPatientList();
+        List<JsonAdaptedJournalRecord> records = savedPatients == null ? null : diff(savedPatients, patients);
+        if (records != null) {
+            // The highest id is journaled on its own only if it was given to a patient who is not journaled,
+            // e.g. one that was added and removed again since the last save
+            long journaledLastId = savedLastId;
+            for (JsonAdaptedJournalRecord record : records) {
+                journaledLastId = Math.max(journaledLastId, record.getLastId());
+            }
+            if (addressBook.getLastId() > journaledLastId) {
+                records.add(new JsonAdaptedJournalRecord(addressBook.getLastId()));
+            }
+        }
+        try {
+            if (records == null
+                    || journalRecordCount + records.size() > Math.max(minRecordsBeforeCompaction, patients.size())) {
+                compact(addressBook);
+            } else if (!records.isEmpty()) {
+                appendToJournal(records);
+            }
+        } catch (IOException e) {
+            // The journal may now end in part of a record, or belong to a snapshot that was not written,
+            // so the next save replaces both instead of appending to it
+            savedPatients = null;
+            throw e;
+        }
+        savedPatients = new ArrayList<>(patients);
+        savedLastId = addressBook.getLastId();
+    }
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal of " + filePath);
+        long checksum = writeSnapshot(addressBook, filePath);
+        byte[] header = (headerFor(checksum) + '\n').getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(getJournalFilePath(filePath), out -> out.write(header));
+        journalRecordCount = 0;
+    }
+
+    /**
+     * Appends {@code records} to the journal. If they cannot all be written, the journal is cut back to its
+     * previous size where possible, so that it does not end in part of a record.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        // DSYNC makes each append reach the disk before the save is reported as done
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+            long previousSize = journal.size();
+            try {
+                while (bytes.hasRemaining()) {
+                    journal.write(bytes);
+                }
+            } catch (IOException e) {
+                try {
+                    journal.truncate(previousSize);
+                } catch (IOException truncateException) {
+                    e.addSuppressed(truncateException);
+                }
+                throw e;
+            }
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Writes {@code addressBook} as a json snapshot to {@code path} and returns the checksum of the written bytes.
+     */
+    private static long writeSnapshot(ReadOnlyAddressBook addressBook, Path path) throws IOException {
+        byte[] snapshot = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(path, out -> out.write(snapshot));
+        return checksumOf(snapshot);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code patients}.
+     * The journal is skipped if it belongs to a snapshot other than the one with {@code snapshotChecksum}.
+     * A malformed last line is assumed to be a write that was cut short, and is dropped.
+     *
+     * @return the number of records applied and the highest id given to a patient that they record.
+     *     The number is -1 if the journal is missing, skipped or cut short, in which case it must not be appended to.
+     */
+    private static Replay replayJournal(Path journalPath, long snapshotChecksum, List<Patient> patients)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return new Replay(-1, 0);
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(headerFor(snapshotChecksum))) {
+            logger.warning("Ignoring journal " + journalPath + " as it does not belong to the current snapshot");
+            return new Replay(-1, 0);
+        }
+
+        long lastId = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last record of journal " + journalPath);
+                    return new Replay(-1, lastId);
+                }
+                throw ioe;
+            }
+            record.applyTo(patients);
+            lastId = Math.max(lastId, record.getLastId());
+        }
+        return new Replay(lines.size() - 1, lastId);
+    }
+
+    /**
+     * Returns the records that turn {@code oldPatients} into {@code newPatients}, or null if that is not possible
+     * with inserts, replacements and removals alone (e.g. the patients were reordered).
+     * Patients are compared by reference, which is enough as they are immutable.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Patient> oldPatients, List<Patient> newPatients) {
+        int prefix = 0;
+        int minSize = Math.min(oldPatients.size(), newPatients.size());
+        while (prefix < minSize && oldPatients.get(prefix) == newPatients.get(prefix)) {
+            prefix++;
+        }
+        int oldEnd = oldPatients.size();
+        int newEnd = newPatients.size();
+        while (oldEnd > prefix && newEnd > prefix && oldPatients.get(oldEnd - 1) == newPatients.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        Set<Patient> oldMiddle = Collections.newSetFromMap(new IdentityHashMap<>());
+        oldMiddle.addAll(oldPatients.subList(prefix, oldEnd));
+        Set<Patient> newMiddle = Collections.newSetFromMap(new IdentityHashMap<>());
+        newMiddle.addAll(newPatients.subList(prefix, newEnd));
+
+        // The list being transformed is always newPatients[0, j) followed by oldPatients[i, oldEnd)
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int i = prefix;
+        int j = prefix;
+        while (i < oldEnd || j < newEnd) {
+            boolean isOldRemoved = i < oldEnd && !newMiddle.contains(oldPatients.get(i));
+            boolean isNewInserted = j < newEnd && !oldMiddle.contains(newPatients.get(j));
+            if (isOldRemoved && isNewInserted) {
+                records.add(new JsonAdaptedJournalRecord(Operation.SET, j, newPatients.get(j)));
+                i++;
+                j++;
+            } else if (isOldRemoved) {
+                records.add(new JsonAdaptedJournalRecord(Operation.REMOVE, j, (Patient) null));
+                i++;
+            } else if (isNewInserted) {
+                records.add(new JsonAdaptedJournalRecord(Operation.INSERT, j, newPatients.get(j)));
+                j++;
+            } else if (i < oldEnd && j < newEnd && oldPatients.get(i) == newPatients.get(j)) {
+                i++;
+                j++;
+            } else {
+                return null;
+            }
+        }
+        return records;
+    }
+
+    private static String headerFor(long snapshotChecksum) {
+        return JOURNAL_HEADER_PREFIX + Long.toHexString(snapshotChecksum);
+    }
+
+    private static long checksumOf(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class Replay {
+        private final int recordCount;
+        private final long lastId;
+
+        Replay(int recordCount, long lastId) {
+            this.recordCount = recordCount;
+            this.lastId = lastId;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Jackson-friendly version of a single change to the patient list, as recorded in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ * Positions refer to the list as it is just before the change is applied.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal record has an unknown operation: %1$s";
+    public static final String MESSAGE_INVALID_POSITION = "Journal record position %1$d is out of range";
+    public static final String MESSAGE_MISSING_PATIENT = "Journal record for %1$s is missing its patient";
+    public static final String MESSAGE_INVALID_LAST_ID = "Journal record has an invalid last patient id: %1$s";
+
+    /**
+     * Kinds of changes that can be recorded.
+     * {@code LAST_ID} records that the highest id given to a patient has risen, and does not change the list.
+     */
+    enum Operation {
+        INSERT, SET, REMOVE, LAST_ID
+    }
+
+    private final Operation operation;
+    private final int position;
+    private final JsonAdaptedPatient patient;
+    private final Long lastId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation,
+                                    @JsonProperty("position") int position,
+                                    @JsonProperty("patient") JsonAdaptedPatient patient,
+                                    @JsonProperty("lastId") Long lastId) {
+        this.operation = operation;
+        this.position = position;
+        this.patient = patient;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Creates a record of {@code operation} at {@code position} with {@code patient},
+     * which may be null for {@code Operation.REMOVE}.
+     */
+    public JsonAdaptedJournalRecord(Operation operation, int position, Patient patient) {
+        this(operation, position, patient == null ? null : new JsonAdaptedPatient(patient), null);
+    }
+
+    /**
+     * Creates a record that the highest id given to a patient has risen to {@code lastId}.
+     */
+    public JsonAdaptedJournalRecord(long lastId) {
+        this(Operation.LAST_ID, 0, null, lastId);
+    }
+
+    /**
+     * Returns the highest id that this record shows to have been given to a patient, which is the recorded id
+     * of a {@code LAST_ID} record or the id of the inserted or set patient, or 0 if it shows none.
+     * Must only be called on a record that has been applied.
+     */
+    public long getLastId() {
+        if (operation == Operation.LAST_ID) {
+            return lastId;
+        }
+        return patient == null || patient.getId() == null ? 0 : patient.getId();
+    }
+
+    /**
+     * Applies the recorded change to {@code patients}.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code patients}.
+     */
+    public void applyTo(List<Patient> patients) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+        if (operation == Operation.LAST_ID) {
+            if (lastId == null || lastId < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LAST_ID, lastId));
+            }
+            return;
+        }
+        int size = patients.size();
+        boolean isValidPosition = position >= 0
+                && (operation == Operation.INSERT ? position <= size : position < size);
+        if (!isValidPosition) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_POSITION, position));
+        }
+        if (operation != Operation.REMOVE && patient == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PATIENT, operation));
+        }
+
+        switch (operation) {
+        case INSERT:
+            patients.add(position, patient.toModelType());
+            break;
+        case SET:
+            patients.set(position, patient.toModelType());
+            break;
+        default:
+            patients.remove(position);
+        }
+    }
+}
@@ -39,10 +39,12 @@ class JsonAdaptedMed {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Medicine toModelType() throws IllegalValueException {
-        if (!Medicine.isValidMedName(medName)) {
+        // Medicine#of validates the name, and only when the name is first seen
+        try {
+            return Medicine.of(medName);
+        } catch (IllegalArgumentException e) {
             throw new IllegalValueException(Medicine.MESSAGE_CONSTRAINTS);
         }
-        return new Medicine(medName);
     }
 
 }
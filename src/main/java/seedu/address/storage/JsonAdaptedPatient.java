@@ -4,8 +4,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,6 +18,7 @@ import seedu.address.model.patient.Email;
 import seedu.address.model.patient.LastVisit;
 import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
 import seedu.address.model.patient.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -26,6 +29,8 @@ class JsonAdaptedPatient {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "patient's %s field is missing!";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -36,13 +41,16 @@ class JsonAdaptedPatient {
 
     /**
      * Constructs a {@code JsonAdaptedPatient} with the given patient details.
+     * {@code id} may be null for patients saved before patients had ids, who are given one when loaded.
      */
     @JsonCreator
-    public JsonAdaptedPatient(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPatient(@JsonProperty("id") Long id,
+                              @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                               @JsonProperty("email") String email, @JsonProperty("address") String address,
                               @JsonProperty("last visit") String lastVisit,
                               @JsonProperty("tags") List<JsonAdaptedTag> tags,
                               @JsonProperty("meds") List<JsonAdaptedMed> meds) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -56,10 +64,19 @@ class JsonAdaptedPatient {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPatient} with the given patient details and no id.
+     */
+    public JsonAdaptedPatient(String name, String phone, String email, String address, String lastVisit,
+                              List<JsonAdaptedTag> tags, List<JsonAdaptedMed> meds) {
+        this(null, name, phone, email, address, lastVisit, tags, meds);
+    }
+
     /**
      * Converts a given {@code patient} into this class for Jackson use.
      */
     public JsonAdaptedPatient(Patient source) {
+        id = source.getId() == null ? null : source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -77,6 +94,13 @@ class JsonAdaptedPatient {
                 .toList());
     }
 
+    /**
+     * Returns the id of the patient, which is null for patients saved before patients had ids.
+     */
+    public Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted patient object into the model's {@code patient} object.
      *
@@ -93,37 +117,30 @@ class JsonAdaptedPatient {
             patientMeds.add(med.toModelType());
         }
 
+        if (id != null && !PatientId.isValidId(id)) {
+            throw new IllegalValueException(PatientId.MESSAGE_CONSTRAINTS);
+        }
+        final PatientId modelId = id == null ? null : new PatientId(id);
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelValue(name, Name::new, Name.MESSAGE_CONSTRAINTS);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = toModelValue(phone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = toModelValue(email, Email::new, Email.MESSAGE_CONSTRAINTS);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = toModelValue(address, Address::new, Address.MESSAGE_CONSTRAINTS);
         final LastVisit modelLastVisit;
         if (lastVisit != null) {
             modelLastVisit = ParserUtil.parseLastVisit(lastVisit);
@@ -135,7 +152,23 @@ class JsonAdaptedPatient {
 
         final Set<Medicine> modelMedicines = new HashSet<>(patientMeds);
 
-        return new Patient(modelName, modelPhone, modelEmail, modelAddress, modelLastVisit, modelTags, modelMedicines);
+        return new Patient(modelId, modelName, modelPhone, modelEmail, modelAddress, modelLastVisit, modelTags,
+                modelMedicines);
+    }
+
+    /**
+     * Creates a value object from {@code value} with {@code constructor}, which validates {@code value}
+     * so that it does not have to be validated here as well.
+     *
+     * @throws IllegalValueException with {@code messageConstraints} if {@code value} is invalid.
+     */
+    private static <T> T toModelValue(String value, Function<String, T> constructor, String messageConstraints)
+            throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(messageConstraints);
+        }
     }
 
 }
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Reads address books stored in the json format of {@link JsonSerializableAddressBook} one patient at a time.
+ * Each patient is validated and converted as soon as it is read, so neither the file contents nor the
+ * intermediate {@code JsonAdaptedPatient}s are ever held in memory all at once.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Expected %1$s at %2$s";
+    public static final String MESSAGE_MISSING_PATIENTS = "The patients field is missing";
+
+    private static final String PATIENTS_FIELD = "patients";
+    private static final String LAST_ID_FIELD = "lastId";
+
+    /**
+     * Reads an address book from {@code in}, which is left open.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold an address book in json format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        JsonParser parser = JsonUtil.createParser(in);
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT, "an object");
+
+        List<Patient> patients = null;
+        long lastId = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (LAST_ID_FIELD.equals(fieldName)) {
+                lastId = readLastId(parser, value);
+                continue;
+            }
+            if (!PATIENTS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            expect(parser, value, JsonToken.START_ARRAY, "a list of patients");
+            patients = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                patients.add(JsonUtil.readValue(parser, JsonAdaptedPatient.class).toModelType());
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_ARRAY, "a patient");
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT, "a field");
+
+        if (patients == null) {
+            throw new IOException(MESSAGE_MISSING_PATIENTS);
+        }
+        return JsonSerializableAddressBook.toAddressBook(patients, lastId);
+    }
+
+    /**
+     * Reads the last patient id at {@code value}, which is 0 if it is null.
+     *
+     * @throws IOException if {@code value} is not a number.
+     * @throws IllegalValueException if the id is negative, has a fractional part or does not fit in a long.
+     */
+    private static long readLastId(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (value != JsonToken.VALUE_NUMBER_FLOAT) {
+            expect(parser, value, JsonToken.VALUE_NUMBER_INT, "a patient id");
+        }
+        boolean isLong = value == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER;
+        if (!isLong || parser.getLongValue() < 0) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_INVALID_LAST_ID);
+        }
+        return parser.getLongValue();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected, String description)
+            throws IOException {
+        if (actual != expected) {
+            throw new IOException(String.format(MESSAGE_NOT_AN_ADDRESS_BOOK, description,
+                    parser.getCurrentLocation()));
+        }
+    }
+}
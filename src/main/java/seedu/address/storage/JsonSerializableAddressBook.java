@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.exceptions.DuplicatePatientException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -19,14 +21,21 @@ import seedu.address.model.patient.Patient;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PATIENT = "patients list contains duplicate patient(s).";
+    public static final String MESSAGE_DUPLICATE_POSITIONS = "Duplicate entries are at position(s): %1$s";
+    public static final String MESSAGE_INVALID_LAST_ID =
+            "The last patient id should be a whole number that is not negative.";
 
+    private final Long lastId;
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given patients.
+     * {@code lastId} may be null for files saved before it was kept.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("patients") List<JsonAdaptedPatient> patients) {
+    public JsonSerializableAddressBook(@JsonProperty("lastId") Long lastId,
+                                       @JsonProperty("patients") List<JsonAdaptedPatient> patients) {
+        this.lastId = lastId;
         this.patients.addAll(patients);
     }
 
@@ -36,6 +45,7 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        lastId = source.getLastId();
         patients.addAll(source.getPatientList().stream().map(JsonAdaptedPatient::new).toList());
     }
 
@@ -45,15 +55,39 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Patient> modelPatients = new ArrayList<>(patients.size());
         for (JsonAdaptedPatient jsonAdaptedpatient : patients) {
-            Patient patient = jsonAdaptedpatient.toModelType();
-            if (addressBook.hasPatient(patient)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
-            }
-            addressBook.addPatient(patient);
+            modelPatients.add(jsonAdaptedpatient.toModelType());
+        }
+        return toAddressBook(modelPatients, lastId == null ? 0 : lastId);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code modelPatients}, which were read from a file in this format,
+     * in which no new patient is given {@code lastId} or a lower id.
+     *
+     * @throws IllegalValueException if {@code modelPatients} contains duplicates or {@code lastId} is negative.
+     */
+    static AddressBook toAddressBook(List<Patient> modelPatients, long lastId) throws IllegalValueException {
+        if (lastId < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_LAST_ID);
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.reserveIdsUpTo(lastId);
+        try {
+            addressBook.setPatients(modelPatients);
+        } catch (DuplicatePatientException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT + " "
+                    + String.format(MESSAGE_DUPLICATE_POSITIONS, formatPositions(e.getDuplicatePositions())));
         }
         return addressBook;
     }
 
+    /**
+     * Formats zero-based list positions as the one-based entry numbers shown to users.
+     */
+    private static String formatPositions(List<Integer> positions) {
+        return positions.stream().map(position -> String.valueOf(position + 1)).collect(Collectors.joining(", "));
+    }
+
 }
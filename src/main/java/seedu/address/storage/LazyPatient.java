@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ArraySet;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Address;
+import seedu.address.model.patient.Email;
+import seedu.address.model.patient.LastVisit;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A {@code Patient} read by {@link BinaryAddressBookFormat#readLazily(ByteBuffer)}, whose email, address,
+ * tags and medicines are decoded from its record the first time any of them is needed.
+ */
+class LazyPatient extends Patient {
+
+    public static final String MESSAGE_UNREADABLE_RECORD = "Patient record %1$d could not be read: %2$s";
+
+    private final BinaryAddressBookFormat.Record record;
+    private final int position;
+    private final BinaryAddressBookFormat.Dictionaries dictionaries;
+
+    private volatile Details details;
+
+    LazyPatient(PatientId id, Name name, Phone phone, LastVisit lastVisit, BinaryAddressBookFormat.Record record,
+                int position, BinaryAddressBookFormat.Dictionaries dictionaries) {
+        super(id, name, phone, lastVisit);
+        this.record = record;
+        this.position = position;
+        this.dictionaries = dictionaries;
+    }
+
+    /**
+     * Returns a copy of this patient with the given {@code id}, which is still decoded lazily from the same record.
+     */
+    @Override
+    public Patient withId(PatientId id) {
+        LazyPatient copy = new LazyPatient(id, getName(), getPhone(), getLastVisit(), record, position, dictionaries);
+        copy.details = details;
+        return copy;
+    }
+
+    @Override
+    public Email getEmail() {
+        return getDetails().email;
+    }
+
+    @Override
+    public Address getAddress() {
+        return getDetails().address;
+    }
+
+    @Override
+    public Set<Tag> getTags() {
+        return getDetails().tags;
+    }
+
+    @Override
+    public Set<Medicine> getMedicines() {
+        return getDetails().medicines;
+    }
+
+    BinaryAddressBookFormat.Record getRecord() {
+        return record;
+    }
+
+    BinaryAddressBookFormat.Dictionaries getDictionaries() {
+        return dictionaries;
+    }
+
+    /**
+     * Returns true if the fields that are decoded lazily have been decoded.
+     */
+    boolean isDecoded() {
+        return details != null;
+    }
+
+    private Details getDetails() {
+        Details decoded = details;
+        if (decoded == null) {
+            // Decoding twice in a race is harmless, as both threads decode the same values
+            decoded = decodeDetails();
+            details = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Decodes the fields that follow the name and phone in the record.
+     *
+     * @throws IllegalStateException if the record holds an invalid value, which is only checked here.
+     */
+    private Details decodeDetails() {
+        ByteBuffer buffer = record.slice();
+        try {
+            BinaryAddressBookFormat.skipString(buffer);
+            BinaryAddressBookFormat.skipString(buffer);
+            Email email = BinaryAddressBookFormat.decodeEmail(buffer);
+            Address address = BinaryAddressBookFormat.decodeAddress(buffer);
+            buffer.getInt(); // last visit, decoded eagerly
+            Set<Tag> tags = BinaryAddressBookFormat.decodeTags(buffer, dictionaries);
+            Set<Medicine> medicines = BinaryAddressBookFormat.decodeMedicines(buffer, dictionaries);
+            return new Details(email, address, tags, medicines);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalValueException e) {
+            throw new IllegalStateException(String.format(MESSAGE_UNREADABLE_RECORD, position + 1, e), e);
+        }
+    }
+
+    /**
+     * The fields of a {@code LazyPatient} that are decoded lazily.
+     */
+    private static class Details {
+        private final Email email;
+        private final Address address;
+        private final Set<Tag> tags;
+        private final Set<Medicine> medicines;
+
+        Details(Email email, Address address, Set<Tag> tags, Set<Medicine> medicines) {
+            this.email = email;
+            this.address = address;
+            this.tags = ArraySet.copyOf(tags);
+            this.medicines = ArraySet.copyOf(medicines);
+        }
+    }
+}
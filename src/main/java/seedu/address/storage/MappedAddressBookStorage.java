@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code BinaryAddressBookStorage} that memory-maps the binary file instead of reading it into the heap.
+ * Only the name, phone and last visit of each patient are decoded on loading. The other fields are only decoded
+ * from the mapped file when they are first used, but the file is checked against its checksum on loading, so a
+ * damaged file fails the load.
+ * Loading time and heap use therefore still grow with the number of patients, as the checksum covers every record
+ * and every patient keeps its decoded fields and its entries in the address book's lookups, but grow more slowly.
+ * Saving replaces the file rather than changing it in place, so the mapped file stays intact after a save.
+ * This is not possible on Windows, where a mapped file cannot be replaced.
+ */
+public class MappedAddressBookStorage extends BinaryAddressBookStorage {
+
+    public static final String MESSAGE_FILE_TOO_LARGE = "The file %1$s is too large to be mapped";
+
+    public MappedAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_FILE_TOO_LARGE, filePath));
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return BinaryAddressBookFormat.readLazily(file);
+        }
+    }
+}
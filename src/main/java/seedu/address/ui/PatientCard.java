@@ -41,6 +41,8 @@ public class PatientCard extends UiPart<Region> {
     @FXML
     private Label lastVisit;
     @FXML
+    private Label patientId;
+    @FXML
     private FlowPane tags;
     @FXML
     private FlowPane medicines;
@@ -61,6 +63,7 @@ public class PatientCard extends UiPart<Region> {
         } else {
             lastVisit.setText("Last visit: ");
         }
+        patientId.setText(patient.getId() == null ? "" : "Patient id: " + patient.getId());
         patient.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -0,0 +1,218 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+            + ADDRESS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final StringWriter out = new StringWriter();
+    private final StringWriter err = new StringWriter();
+    private JsonAddressBookStorage addressBookStorage;
+    private StorageManager storage;
+    private int saveCount;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("careconnect.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void run_validScript_writesFeedbackAndSavesOnce() throws Exception {
+        String script = "# patients to import\n"
+                + ADD_AMY + "\n"
+                + "\n"
+                + "   " + ADD_BOB + "   \n";
+        assertEquals(0, run(script, 0));
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, VALID_NAME_AMY) + System.lineSeparator()
+                + String.format(AddCommand.MESSAGE_SUCCESS, VALID_NAME_BOB) + System.lineSeparator(), out.toString());
+        assertEquals("", err.toString());
+        assertEquals(1, saveCount);
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void run_failedCommands_reportedWithLineNumbers() throws Exception {
+        String script = "unknown\n"
+                + ADD_AMY + "\n"
+                + ADD_AMY + "\n";
+        assertEquals(2, run(script, 0));
+
+        assertEquals(String.format(HeadlessApp.MESSAGE_LINE_ERROR, 1, Messages.MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator()
+                + String.format(HeadlessApp.MESSAGE_LINE_ERROR, 3, AddCommand.MESSAGE_DUPLICATE_PATIENT)
+                + System.lineSeparator(), err.toString());
+        assertEquals(1, model.getAddressBook().getPatientList().size());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        String script = ADD_AMY + "\n"
+                + ExitCommand.COMMAND_WORD + "\n"
+                + ADD_BOB + "\n";
+        assertEquals(0, run(script, 0));
+
+        assertEquals(1, model.getAddressBook().getPatientList().size());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAtEachCheckpoint() throws Exception {
+        String script = ADD_AMY + "\n"
+                + ListCommand.COMMAND_WORD + "\n"
+                + ADD_BOB + "\n";
+        assertEquals(0, run(script, 1));
+
+        // the list command and the final save leave the address book unchanged, so they do not save
+        assertEquals(2, saveCount);
+    }
+
+    @Test
+    public void run_atomicScriptWithFailedCommand_makesNoChanges() throws Exception {
+        String script = ADD_AMY + "\n"
+                + "# a duplicate\n"
+                + ADD_AMY + "\n";
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage, false), 0, true);
+        assertEquals(1, app.run(new BufferedReader(new StringReader(script)), new PrintWriter(out, true),
+                new PrintWriter(err, true)));
+
+        assertEquals(String.format(LogicManager.MESSAGE_BATCH_COMMAND_FAILED, 2,
+                AddCommand.MESSAGE_DUPLICATE_PATIENT) + System.lineSeparator(), err.toString());
+        assertEquals(0, model.getAddressBook().getPatientList().size());
+        assertEquals(0, saveCount);
+    }
+
+    @Test
+    public void run_inputUnreadablePartway_savesCommandsRead() throws Exception {
+        BufferedReader input = new BufferedReader(new StringReader(ADD_AMY + "\n")) {
+            private boolean hasReadLine;
+
+            @Override
+            public String readLine() throws IOException {
+                if (hasReadLine) {
+                    throw new IOException("connection reset");
+                }
+                hasReadLine = true;
+                return super.readLine();
+            }
+        };
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage, false), 0);
+        assertEquals(1, app.run(input, new PrintWriter(out, true), new PrintWriter(err, true)));
+
+        assertEquals(String.format(HeadlessApp.MESSAGE_READ_ERROR_AFTER_LINE, 1,
+                new IOException("connection reset")) + System.lineSeparator(), err.toString());
+        assertEquals(1, saveCount);
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void launch_unreadableDataFile_runsNothingAndKeepsFile() throws Exception {
+        Path dataFile = temporaryFolder.resolve("careconnect.json");
+        FileUtil.writeToFile(dataFile, "not json");
+        Path script = writeScript(dataFile, ADD_AMY + "\n");
+
+        assertEquals(1, HeadlessApp.launch(launchArgs(script)));
+        assertEquals("not json", FileUtil.readFromFile(dataFile));
+    }
+
+    @Test
+    public void launch_missingDataFile_startsWithEmptyAddressBook() throws Exception {
+        Path dataFile = temporaryFolder.resolve("careconnect.json");
+        Path script = writeScript(dataFile, ADD_AMY + "\n");
+
+        assertEquals(0, HeadlessApp.launch(launchArgs(script)));
+        assertEquals(List.of(VALID_NAME_AMY), new JsonAddressBookStorage(dataFile).readAddressBook().get()
+                .getPatientList().stream().map(patient -> patient.getName().fullName).toList());
+    }
+
+    @Test
+    public void parseNamedParameters() {
+        assertEquals(Map.of("script", "nightly.txt", "checkpoint", "100"), HeadlessApp.parseNamedParameters(
+                new String[] {HeadlessApp.HEADLESS_PARAMETER, "--script=nightly.txt", "--checkpoint=100", "-x=y"}));
+    }
+
+    /**
+     * Writes the config and user prefs that make the headless app use the data file at {@code dataFile}, and a
+     * script containing {@code commands}, and returns the path of the script.
+     */
+    private Path writeScript(Path dataFile, String commands) throws IOException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataFile);
+        Config config = new Config();
+        config.setUserPrefsFilePath(temporaryFolder.resolve("userPrefs.json"));
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+        ConfigUtil.saveConfig(config, temporaryFolder.resolve("config.json"));
+
+        Path script = temporaryFolder.resolve("script.txt");
+        FileUtil.writeToFile(script, commands);
+        return script;
+    }
+
+    private String[] launchArgs(Path script) {
+        return new String[] {HeadlessApp.HEADLESS_PARAMETER, "--config=" + temporaryFolder.resolve("config.json"),
+            "--script=" + script};
+    }
+
+    private int run(String script, int checkpointInterval) throws IOException {
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage, false), checkpointInterval);
+        return app.run(new BufferedReader(new StringReader(script)), new PrintWriter(out, true),
+                new PrintWriter(err, true));
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ArraySetTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ArraySet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> ArraySet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_duplicates_keptOnce() {
+        Set<String> set = ArraySet.copyOf(List.of("a", "b", "a"));
+        assertEquals(2, set.size());
+        assertTrue(set.contains("a"));
+        assertFalse(set.contains("c"));
+    }
+
+    @Test
+    public void copyOf_sameElements_equalsAndIteratesLikeHashSet() {
+        List<String> items = List.of("panadol", "insulin", "aspirin", "warfarin");
+        HashSet<String> hashSet = new HashSet<>(items);
+        Set<String> set = ArraySet.copyOf(items);
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertEquals(new ArrayList<>(hashSet), new ArrayList<>(set));
+    }
+
+    @Test
+    public void copyOf_arraySet_returnsSameSet() {
+        ArraySet<String> set = ArraySet.copyOf(List.of("a"));
+        assertSame(set, ArraySet.copyOf(set));
+        assertSame(ArraySet.copyOf(List.of()), ArraySet.copyOf(new HashSet<>()));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<String> set = ArraySet.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(s -> false));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+}
@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,14 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("dir").resolve("file.bin");
+        FileUtil.writeToFileAtomically(file, out -> out.write(new byte[] {1, 2, 3}));
+        FileUtil.writeToFileAtomically(file, out -> out.write(new byte[] {4}));
+
+        assertArrayEquals(new byte[] {4}, Files.readAllBytes(file));
+        assertFalse(Files.exists(file.resolveSibling("file.bin.tmp")));
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,59 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // Same or empty strings
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(5, StringUtil.editDistance("", "alice"));
+        assertEquals(5, StringUtil.editDistance("alice", ""));
+
+        // One insertion, deletion or substitution
+        assertEquals(1, StringUtil.editDistance("alice", "alicee"));
+        assertEquals(1, StringUtil.editDistance("alice", "alie"));
+        assertEquals(1, StringUtil.editDistance("alice", "alics"));
+
+        // Case is significant, transpositions count as two substitutions
+        assertEquals(1, StringUtil.editDistance("alice", "Alice"));
+        assertEquals(2, StringUtil.editDistance("alice", "alcie"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+    }
+
+    //---------------- Tests for soundex --------------------------------------
+
+    @Test
+    public void soundex_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.soundex(null));
+    }
+
+    @Test
+    public void soundex_validInputs_correctResult() {
+        // Words that sound alike
+        assertEquals("R163", StringUtil.soundex("Robert"));
+        assertEquals("R163", StringUtil.soundex("rupert"));
+        assertEquals("S530", StringUtil.soundex("SMYTH"));
+        assertEquals("S530", StringUtil.soundex("Smith"));
+
+        // Same digits separated by H or W are coded once, and by a vowel twice
+        assertEquals("A261", StringUtil.soundex("Ashcraft"));
+        assertEquals("T522", StringUtil.soundex("Tymczak"));
+        assertEquals("P236", StringUtil.soundex("Pfister"));
+
+        // Short words are padded, other characters are ignored
+        assertEquals("L000", StringUtil.soundex("Li"));
+        assertEquals("O540", StringUtil.soundex("O'Neil1"));
+        assertEquals("", StringUtil.soundex("123"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
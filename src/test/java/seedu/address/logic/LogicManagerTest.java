@@ -1,19 +1,28 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.LAST_VISIT_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,14 +30,17 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.patient.Patient;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -41,6 +53,11 @@ public class LogicManagerTest {
     @TempDir
     public Path temporaryFolder;
 
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+
     private final Model model = new ModelManager();
     private Logic logic;
 
@@ -84,6 +101,124 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic = new LogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_previousSaveFailed_retriesSave() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // the unsaved add leaves the address book dirty, so even a read-only command tries to save again
+        assertCommandException(ListCommand.COMMAND_WORD, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_reportedWithNextCommand() throws Exception {
+        StorageManager storage = createStorageThrowing(DUMMY_IO_EXCEPTION);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LAST_VISIT_AMY;
+        logic.execute(addCommand);
+        saver.awaitPendingWrites();
+
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_backgroundSave_writesAddressBook() throws Exception {
+        Path filePath = temporaryFolder.resolve("careconnect.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LAST_VISIT_AMY;
+        logic.execute(addCommand);
+        saver.flush();
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_notSavingAfterEachCommand_savesOnlyWhenAsked() throws Exception {
+        Path filePath = temporaryFolder.resolve("careconnect.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(model, storage, false);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LAST_VISIT_AMY;
+        logicManager.execute(addCommand);
+        assertFalse(Files.exists(filePath));
+
+        logicManager.save();
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_throwsCommandException() throws Exception {
+        LogicManager logicManager = new LogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION), false);
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LAST_VISIT_AMY);
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), logicManager::save);
+    }
+
+    @Test
+    public void executeBatch_validCommands_savesOnce() throws Exception {
+        int[] saveCount = new int[1];
+        Path filePath = temporaryFolder.resolve("careconnect.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        List<CommandResult> results = logic.executeBatch(List.of(ADD_AMY, ADD_BOB, ListCommand.COMMAND_WORD));
+        assertEquals(List.of(String.format(AddCommand.MESSAGE_SUCCESS, VALID_NAME_AMY),
+                String.format(AddCommand.MESSAGE_SUCCESS, VALID_NAME_BOB), ListCommand.MESSAGE_SUCCESS),
+                results.stream().map(CommandResult::getFeedbackToUser).toList());
+        assertEquals(2, model.getAddressBook().getPatientList().size());
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void executeBatch_commandFails_rollsBack() throws Exception {
+        logic.execute(ADD_AMY);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(LogicManager.MESSAGE_BATCH_COMMAND_FAILED, 3,
+                MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, expectedMessage, () -> logic.executeBatch(
+                List.of(ADD_BOB, DeleteCommand.COMMAND_WORD + " 1", DeleteCommand.COMMAND_WORD + " 9")));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void executeBatch_invalidCommand_nothingExecuted() {
+        String expectedMessage = String.format(LogicManager.MESSAGE_BATCH_COMMAND_FAILED, 2,
+                MESSAGE_UNKNOWN_COMMAND);
+        assertThrows(ParseException.class, expectedMessage, () -> logic.executeBatch(
+                List.of(ADD_AMY, "uicfhmowqewca")));
+        assertEquals(new ModelManager(), model);
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPatientList().remove(0));
@@ -149,6 +284,21 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, createStorageThrowing(e));
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LAST_VISIT_AMY;
+        Patient expectedPatient = new PatientBuilder(AMY).withTags().withMeds().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPatient(expectedPatient);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a {@code StorageManager} whose address book storage throws {@code e} when saving.
+     */
+    private StorageManager createStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -162,16 +312,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LAST_VISIT_AMY;
-        Patient expectedPatient = new PatientBuilder(AMY).withTags().withMeds().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPatient(expectedPatient);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
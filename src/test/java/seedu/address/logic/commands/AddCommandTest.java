@@ -8,9 +8,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +25,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PatientBuilder;
 
 public class AddCommandTest {
@@ -43,6 +51,39 @@ public class AddCommandTest {
         assertEquals(List.of(validPatient), modelStub.patientsAdded);
     }
 
+    @Test
+    public void execute_nameSoundsLikeExistingPatient_addedWithNote() throws Exception {
+        ModelStubAcceptingPatientAdded modelStub = new ModelStubAcceptingPatientAdded();
+        new AddCommand(new PatientBuilder().withName("John Smith").build()).execute(modelStub);
+        new AddCommand(new PatientBuilder().withName("Smith Jon").build()).execute(modelStub);
+        Patient validPatient = new PatientBuilder().withName("Jon Smyth").build();
+
+        CommandResult commandResult = new AddCommand(validPatient).execute(modelStub);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, validPatient.getName()) + "\n"
+                + String.format(AddCommand.MESSAGE_POSSIBLE_DUPLICATE, "John Smith, Smith Jon"),
+                commandResult.getFeedbackToUser());
+        assertEquals(3, modelStub.patientsAdded.size());
+    }
+
+    @Test
+    public void execute_manyNamesSoundLikeNewPatient_noteListsFirstFew() throws Exception {
+        ModelStubAcceptingPatientAdded modelStub = new ModelStubAcceptingPatientAdded();
+        for (String name : List.of("John Smith", "Jon Smith", "John Smyth", "Jon Smyth", "Smith John",
+                "Smith Jon", "Smyth John")) {
+            new AddCommand(new PatientBuilder().withName(name).build()).execute(modelStub);
+        }
+        Patient validPatient = new PatientBuilder().withName("Smyth Jon").build();
+
+        CommandResult commandResult = new AddCommand(validPatient).execute(modelStub);
+
+        String shownNames = String.format(AddCommand.MESSAGE_MORE_SIMILAR_NAMES,
+                "John Smith, John Smyth, Jon Smith, Jon Smyth, Smith John", 2);
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, validPatient.getName()) + "\n"
+                + String.format(AddCommand.MESSAGE_POSSIBLE_DUPLICATE, shownNames),
+                commandResult.getFeedbackToUser());
+    }
+
     @Test
     public void execute_duplicatePatient_throwsCommandException() {
         Patient validPatient = new PatientBuilder().build();
@@ -132,6 +173,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatient(Patient patient) {
             throw new AssertionError("This method should not be called.");
@@ -147,6 +193,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsOnMedicine(Medicine medicine) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPatientsOnMedicine(Medicine medicine) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsLastVisitedBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsNeverVisited() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsWithNamePrefix(String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsWithNameNear(String word, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsWithNameSoundingLike(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Patient> getPatientById(PatientId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Patient> getFilteredPatientList() {
             throw new AssertionError("This method should not be called.");
@@ -194,6 +290,14 @@ public class AddCommandTest {
             patientsAdded.add(patient);
         }
 
+        @Override
+        public Set<Patient> getPatientsWithNameSoundingLike(Name name) {
+            requireNonNull(name);
+            return patientsAdded.stream()
+                    .filter(patient -> patient.getName().getPhoneticKey().equals(name.getPhoneticKey()))
+                    .collect(Collectors.toSet());
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.BOB;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.PatientId;
 
 public class ClearCommandTest {
 
@@ -29,4 +32,14 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_thenAddPatient_idsNotReused() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ClearCommand().execute(model);
+        model.addPatient(BOB);
+
+        // the typical patients had ids 1 to 7
+        assertEquals(new PatientId(8), model.getAddressBook().getPatientList().get(0).getId());
+    }
+
 }
@@ -18,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -79,6 +80,32 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_validIdFilteredList_success() {
+        showNoPatient(model);
+
+        Patient patientToDelete = model.getAddressBook().getPatientList().get(INDEX_SECOND_PATIENT.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(PatientTarget.ofId(patientToDelete.getId()));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PATIENT_SUCCESS,
+                Messages.format(patientToDelete));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePatient(patientToDelete);
+        showNoPatient(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getPatientById(patientToDelete.getId()).isEmpty());
+    }
+
+    @Test
+    public void execute_unknownId_throwsCommandException() {
+        PatientId unknownId = new PatientId(model.getAddressBook().getPatientList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(PatientTarget.ofId(unknownId));
+
+        assertCommandFailure(deleteCommand, model, String.format(Messages.MESSAGE_INVALID_PATIENT_ID, unknownId));
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PATIENT);
@@ -99,6 +126,9 @@ public class DeleteCommandTest {
 
         // different patient -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // id instead of index -> returns false
+        assertFalse(deleteFirstCommand.equals(new DeleteCommand(PatientTarget.ofId(new PatientId(1)))));
     }
 
     @Test
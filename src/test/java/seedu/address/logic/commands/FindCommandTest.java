@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
 import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
 import static seedu.address.testutil.TypicalPatients.ELLE;
 import static seedu.address.testutil.TypicalPatients.FIONA;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +23,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.NameSimilarToKeywordsPredicate;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +83,50 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPatientList());
     }
 
+    @Test
+    public void execute_allTags_patientsWithEveryTagFound() {
+        String expectedMessage = String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, 1);
+        PatientHasTagsPredicate predicate = prepareTagPredicate(false, "friends", "owesMoney");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPatientList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_anyTag_patientsWithSomeTagFound() {
+        String expectedMessage = String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, 3);
+        PatientHasTagsPredicate predicate = prepareTagPredicate(true, "owesMoney", "friends", "unused");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPatientList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_tagsThenEdit_editedPatientFilteredByTags() throws Exception {
+        new FindCommand(prepareTagPredicate(false, "friends")).execute(model);
+
+        // the edited patient is not in the matches looked up by the find, so it is tested directly
+        Patient untaggedAlice = new PatientBuilder(ALICE).withTags().build();
+        model.setPatient(ALICE, untaggedAlice);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPatientList());
+
+        Patient taggedCarl = new PatientBuilder(CARL).withTags("friends").build();
+        model.setPatient(CARL, taggedCarl);
+        assertEquals(Arrays.asList(BENSON, taggedCarl, DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestPatientsFirst() {
+        String expectedMessage = String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, 3);
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("MEYER"), 1);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPatientList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPatientList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -82,6 +135,14 @@ public class FindCommandTest {
         assertEquals(expected, findCommand.toString());
     }
 
+    /**
+     * Creates a {@code PatientHasTagsPredicate} for the tags named {@code tagNames}.
+     */
+    private PatientHasTagsPredicate prepareTagPredicate(boolean isMatchAny, String... tagNames) {
+        return new PatientHasTagsPredicate(Arrays.stream(tagNames).map(Tag::new).collect(Collectors.toList()),
+                isMatchAny);
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
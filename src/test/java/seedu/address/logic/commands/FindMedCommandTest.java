@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PATIENT;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.PatientTakesMedicinesPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindMedCommand}.
+ */
+public class FindMedCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindMedCommand findFirstCommand = new FindMedCommand(List.of(new Medicine("Metformin")));
+        FindMedCommand findSecondCommand = new FindMedCommand(List.of(new Medicine("Insulin")));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values, ignoring case -> returns true
+        assertTrue(findFirstCommand.equals(new FindMedCommand(List.of(new Medicine("metformin")))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different medicines -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_multipleMedicines_patientsAndCountsShown() {
+        List<Medicine> medicines = List.of(new Medicine("PARACETAMOL"), new Medicine("penicillin"),
+                new Medicine("Insulin"));
+        String expectedMessage = String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, 2)
+                + "\nPARACETAMOL: 1, penicillin: 1, Insulin: 0";
+        expectedModel.updateFilteredPatientList(new PatientTakesMedicinesPredicate(medicines));
+        assertCommandSuccess(new FindMedCommand(medicines), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_afterPrescribe_countsUpdated() throws Exception {
+        Medicine paracetamol = new Medicine("paracetamol");
+        new PrescribeCommand(INDEX_SECOND_PATIENT, Set.of(paracetamol)).execute(model);
+
+        CommandResult result = new FindMedCommand(List.of(paracetamol)).execute(model);
+        assertEquals(String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, 2) + "\nparacetamol: 2",
+                result.getFeedbackToUser());
+        assertEquals(2, model.countPatientsOnMedicine(paracetamol));
+
+        new UnprescribeCommand(INDEX_SECOND_PATIENT, Set.of(paracetamol)).execute(model);
+        assertEquals(1, model.countPatientsOnMedicine(paracetamol));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Medicine> medicines = List.of(new Medicine("Metformin"));
+        FindMedCommand findMedCommand = new FindMedCommand(medicines);
+        String expected = FindMedCommand.class.getCanonicalName() + "{medicines=" + medicines + "}";
+        assertEquals(expected, findMedCommand.toString());
+    }
+}
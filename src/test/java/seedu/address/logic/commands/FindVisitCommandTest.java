@@ -0,0 +1,129 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.LastVisitBetweenPredicate;
+import seedu.address.model.patient.NeverVisitedPredicate;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindVisitCommand}.
+ */
+public class FindVisitCommandTest {
+    private static final Patient VISITED_2019 = new PatientBuilder(ALICE).withLastVisit("2019-06-30").build();
+    private static final Patient VISITED_2020 = new PatientBuilder(BENSON).withLastVisit("2020-01-01").build();
+    private static final Patient VISITED_2021 = new PatientBuilder(CARL).withLastVisit("2021-03-15").build();
+    private static final Patient NEVER_VISITED = new PatientBuilder(DANIEL).withLastVisit(null).build();
+
+    private final Model model = new ModelManager(getAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindVisitCommand findFirstCommand =
+                new FindVisitCommand(new LastVisitBetweenPredicate(null, LocalDate.of(2020, 1, 1)));
+        FindVisitCommand findSecondCommand = new FindVisitCommand(new NeverVisitedPredicate());
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(
+                new FindVisitCommand(new LastVisitBetweenPredicate(null, LocalDate.of(2020, 1, 1)))));
+        assertTrue(findSecondCommand.equals(new FindVisitCommand(new NeverVisitedPredicate())));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+        assertFalse(findFirstCommand.equals(
+                new FindVisitCommand(new LastVisitBetweenPredicate(LocalDate.of(2020, 1, 1), null))));
+    }
+
+    @Test
+    public void execute_lastVisitBefore_patientsFound() {
+        assertFound(new LastVisitBetweenPredicate(null, LocalDate.of(2020, 1, 1)), VISITED_2019, VISITED_2020);
+    }
+
+    @Test
+    public void execute_lastVisitBetween_patientsFound() {
+        assertFound(new LastVisitBetweenPredicate(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 3, 15)),
+                VISITED_2020, VISITED_2021);
+        assertFound(new LastVisitBetweenPredicate(LocalDate.of(2020, 1, 2), LocalDate.of(2021, 3, 14)));
+    }
+
+    @Test
+    public void execute_lastVisitAfter_patientsFound() {
+        assertFound(new LastVisitBetweenPredicate(LocalDate.of(2019, 7, 1), null), VISITED_2020, VISITED_2021);
+    }
+
+    @Test
+    public void execute_neverVisited_patientsFound() {
+        assertFound(new NeverVisitedPredicate(), NEVER_VISITED);
+    }
+
+    @Test
+    public void execute_visitRecordedAfterFind_listUpdated() {
+        new FindVisitCommand(new NeverVisitedPredicate()).execute(model);
+
+        Patient nowVisited = new PatientBuilder(NEVER_VISITED).withLastVisit("2022-02-02").build();
+        model.setPatient(NEVER_VISITED, nowVisited);
+        assertEquals(Collections.emptyList(), model.getFilteredPatientList());
+
+        new FindVisitCommand(new LastVisitBetweenPredicate(LocalDate.of(2022, 1, 1), null)).execute(model);
+        assertEquals(List.of(nowVisited), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NeverVisitedPredicate predicate = new NeverVisitedPredicate();
+        FindVisitCommand findVisitCommand = new FindVisitCommand(predicate);
+        String expected = FindVisitCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findVisitCommand.toString());
+    }
+
+    /**
+     * Asserts that finding with {@code predicate} lists {@code expectedPatients}, in address book order.
+     */
+    private void assertFound(Predicate<Patient> predicate, Patient... expectedPatients) {
+        String expectedMessage = String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, expectedPatients.length);
+        expectedModel.updateFilteredPatientList(predicate);
+        assertCommandSuccess(new FindVisitCommand(predicate), model, expectedMessage, expectedModel);
+        List<Patient> expected = getAddressBook().getPatientList().stream()
+                .filter(Arrays.asList(expectedPatients)::contains)
+                .collect(Collectors.toList());
+        assertEquals(expected, model.getFilteredPatientList());
+    }
+
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPatients(List.of(VISITED_2021, NEVER_VISITED, VISITED_2019, VISITED_2020));
+        return addressBook;
+    }
+}
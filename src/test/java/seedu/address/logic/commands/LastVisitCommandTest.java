@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LASTVISITDATE_AMY;
@@ -98,6 +99,28 @@ public class LastVisitCommandTest {
         assertCommandFailure(lastVisitCommand, model, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_allShownFilteredList_updatesOnlyShownPatients() {
+        showPatientAtIndex(model, INDEX_SECOND_PATIENT);
+
+        Patient secondPatient = model.getFilteredPatientList().get(0);
+        LastVisitCommand lastVisitCommand = new LastVisitCommand(PatientTarget.ofAllShown(),
+                new LastVisit(LocalDate.parse(LASTVISIT_STUB)));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPatient(secondPatient,
+                new PatientBuilder(secondPatient).withLastVisit(LASTVISIT_STUB).build());
+
+        String expectedMessage = String.format(LastVisitCommand.MESSAGE_BULK_ADD_LAST_VISIT_SUCCESS, 1,
+                LASTVISIT_STUB);
+
+        assertCommandSuccess(lastVisitCommand, model, expectedMessage, expectedModel);
+        assertEquals(LocalDate.parse(LASTVISIT_STUB),
+                model.getAddressBook().getPatientList().get(1).getLastVisit().lastVisitDate);
+        assertEquals(LocalDate.parse("2020-01-01"),
+                model.getAddressBook().getPatientList().get(0).getLastVisit().lastVisitDate);
+    }
+
     @Test
     public void equals() {
         final LastVisitCommand standardCommand = new LastVisitCommand(INDEX_FIRST_PATIENT,
@@ -79,6 +79,33 @@ public class PrescribeCommandTest {
         assertCommandFailure(prescribeCommand, model, expectedFailureMessage);
     }
 
+    @Test
+    public void execute_range_prescribesEveryPatientInRange() {
+        PrescribeCommand prescribeCommand = new PrescribeCommand(
+                PatientTarget.ofRange(INDEX_FIRST_PATIENT, INDEX_SECOND_PATIENT), VALID_MEDSET);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        for (Patient patient : model.getFilteredPatientList().subList(0, 2)) {
+            Set<Medicine> updatedMedicines = new HashSet<>(patient.getMedicines());
+            updatedMedicines.addAll(VALID_MEDSET);
+            expectedModel.setPatient(patient, new PatientBuilder(patient).withMeds(updatedMedicines).build());
+        }
+
+        String expectedMessage = String.format(PrescribeCommand.MESSAGE_BULK_ADD_MED_SUCCESS,
+                new Medicine("Vicodin").toString(), 2);
+
+        assertCommandSuccess(prescribeCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPatientList().size() + 1);
+        PrescribeCommand prescribeCommand = new PrescribeCommand(
+                PatientTarget.ofRange(INDEX_FIRST_PATIENT, outOfBoundIndex), VALID_MEDSET);
+
+        assertCommandFailure(prescribeCommand, model, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+    }
+
     @Test
     public void equals() {
         HashSet<Medicine> validMedicines = new HashSet<>();
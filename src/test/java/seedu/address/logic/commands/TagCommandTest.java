@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -9,6 +11,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -80,4 +83,30 @@ public class TagCommandTest {
             fail("fail"); // Wrong exception generated
         }
     }
+
+    @Test
+    public void execute_range_tagsPatientsWithoutTag() {
+        // ALICE and BENSON are already tagged friends, so only CARL is updated
+        Model model = new ModelManager(TypicalPatients.getTypicalAddressBook(), new UserPrefs());
+        HashSet<Tag> tags = new HashSet<>(Set.of(new Tag("friends")));
+        TagCommand tagCommand = new TagCommand(PatientTarget.ofRange(Index.fromOneBased(1), Index.fromOneBased(3)),
+                tags);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPatient(TypicalPatients.CARL, new PatientBuilder(TypicalPatients.CARL)
+                .withTags("friends").build());
+
+        assertCommandSuccess(tagCommand, model,
+                String.format(TagCommand.MESSAGE_BULK_SUCCESS, TagCommand.joinTags(tags), 1), expectedModel);
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_error() {
+        Model model = new ModelManager(TypicalPatients.getTypicalAddressBook(), new UserPrefs());
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPatientList().size() + 1);
+        TagCommand tagCommand = new TagCommand(PatientTarget.ofRange(Index.fromOneBased(1), outOfBoundIndex),
+                new HashSet<>(Set.of(new Tag("a"))));
+
+        assertCommandFailure(tagCommand, model, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+    }
 }
@@ -131,6 +131,27 @@ public class UnprescribeCommandTest {
         assertCommandFailure(unprescribeCommand, model, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_removingAllMedicineFromAllShown_success() {
+        UnprescribeCommand unprescribeCommand = new UnprescribeCommand(PatientTarget.ofAllShown(),
+                new HashSet<>(List.of(REMOVE_ALL_PLACEHOLDER)));
+
+        // only the patients with medicines are updated
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        int expectedCount = 0;
+        for (Patient patient : model.getFilteredPatientList()) {
+            if (!patient.getMedicines().isEmpty()) {
+                expectedModel.setPatient(patient, new PatientBuilder(patient).withMeds(new HashSet<>()).build());
+                expectedCount++;
+            }
+        }
+
+        String expectedMessage = String.format(UnprescribeCommand.MESSAGE_BULK_REMOVE_ALL_MED_SUCCESS,
+                expectedCount);
+
+        assertCommandSuccess(unprescribeCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void equals() {
         final UnprescribeCommand standardCommand = new UnprescribeCommand(INDEX_FIRST_PATIENT,
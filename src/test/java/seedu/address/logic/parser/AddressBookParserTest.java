@@ -21,12 +21,15 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindMedCommand;
+import seedu.address.logic.commands.FindVisitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PrescribeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.NeverVisitedPredicate;
 import seedu.address.model.patient.Patient;
 import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.PatientUtil;
@@ -69,6 +72,19 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findMed() throws Exception {
+        FindMedCommand command = (FindMedCommand) parser.parseCommand(
+                FindMedCommand.COMMAND_WORD + " m/Metformin m/Insulin");
+        assertEquals(new FindMedCommand(List.of(new Medicine("Metformin"), new Medicine("Insulin"))), command);
+    }
+
+    @Test
+    public void parseCommand_findVisit() throws Exception {
+        FindVisitCommand command = (FindVisitCommand) parser.parseCommand(FindVisitCommand.COMMAND_WORD + " /never");
+        assertEquals(new FindVisitCommand(new NeverVisitedPredicate()), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         // Test basic help command
@@ -120,6 +136,18 @@ public class AddressBookParserTest {
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
             -> parser.parseCommand(""));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand("delete 1\n2"));
+    }
+
+    @Test
+    public void registerParser_newCommandWord_parsedWithRegisteredParser() throws Exception {
+        parser.registerParser("bye", arguments -> new ExitCommand());
+        assertTrue(parser.parseCommand("bye now") instanceof ExitCommand);
+        assertThrows(IllegalArgumentException.class, () -> parser.registerParser("good bye", arguments -> null));
+
+        // parsers registered with one parser are not seen by another
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> new AddressBookParser().parseCommand("bye"));
     }
 
     @Test
@@ -136,6 +136,26 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognised() {
+        // only a space marks the start of a prefix
+        String argsString = "SomePreambleString\tp/ tab -t\tdashT value\n^Q newline";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "SomePreambleString\tp/ tab");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "dashT value\n^Q newline");
+        assertArgumentAbsent(argMultimap, hatQ);
+    }
+
+    @Test
+    public void tokenize_prefixesStartingTheSame_longestRecognised() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "preamble p// double p/ single";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertArgumentPresent(argMultimap, pSlashSlash, "double");
+        assertArgumentPresent(argMultimap, pSlash, "single");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
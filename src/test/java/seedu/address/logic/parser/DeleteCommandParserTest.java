@@ -2,13 +2,17 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.PatientTarget;
+import seedu.address.model.patient.PatientId;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -24,6 +28,21 @@ public class DeleteCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PATIENT));
+        assertParseSuccess(parser, " " + PREFIX_ID + "42 ", new DeleteCommand(PatientTarget.ofId(new PatientId(42))));
+    }
+
+    @Test
+    public void parse_invalidIdArgs_throwsParseException() {
+        // invalid id
+        assertParseFailure(parser, " " + PREFIX_ID + "0", PatientId.MESSAGE_CONSTRAINTS);
+
+        // both index and id
+        assertParseFailure(parser, "1 " + PREFIX_ID + "42",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+
+        // repeated id
+        assertParseFailure(parser, " " + PREFIX_ID + "42 " + PREFIX_ID + "43",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_ID));
     }
 
     @Test
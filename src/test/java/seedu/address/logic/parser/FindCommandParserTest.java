@@ -5,11 +5,16 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.NameSimilarToKeywordsPredicate;
+import seedu.address.model.patient.PatientHasTagsPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +36,53 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_tags_returnsFindCommand() {
+        List<Tag> tags = Arrays.asList(new Tag("diabetic"), new Tag("elderly"));
+
+        // all of the tags, repeated tags ignored
+        assertParseSuccess(parser, " t/diabetic t/elderly t/diabetic",
+                new FindCommand(new PatientHasTagsPredicate(tags, false)));
+
+        // any of the tags
+        assertParseSuccess(parser, " /any t/diabetic  t/elderly",
+                new FindCommand(new PatientHasTagsPredicate(tags, true)));
+    }
+
+    @Test
+    public void parse_fuzzy_returnsFindCommand() {
+        // default distance
+        assertParseSuccess(parser, " /fuzzy alcie \t bob", new FindCommand(
+                new NameSimilarToKeywordsPredicate(List.of("alcie", "bob"),
+                        NameSimilarToKeywordsPredicate.DEFAULT_MAX_DISTANCE)));
+
+        // given distance
+        assertParseSuccess(parser, " /fuzzy alcie dist/0",
+                new FindCommand(new NameSimilarToKeywordsPredicate(List.of("alcie"), 0)));
+    }
+
+    @Test
+    public void parse_invalidFuzzySearch_throwsParseException() {
+        // no keywords
+        assertParseFailure(parser, " /fuzzy dist/1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // distance out of range or not a number
+        assertParseFailure(parser, " /fuzzy alcie dist/4", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+        assertParseFailure(parser, " /fuzzy alcie dist/-1", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+        assertParseFailure(parser, " /fuzzy alcie dist/one", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+
+        // repeated distance
+        assertParseFailure(parser, " /fuzzy alcie dist/1 dist/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DISTANCE));
+    }
+
+    @Test
+    public void parse_invalidTagSearch_throwsParseException() {
+        // name keywords and tags together
+        assertParseFailure(parser, " alice t/diabetic", FindCommandParser.MESSAGE_NAME_AND_TAGS);
+
+        // invalid tag
+        assertParseFailure(parser, " t/diabetic t/not valid", Tag.MESSAGE_CONSTRAINTS);
+    }
 }
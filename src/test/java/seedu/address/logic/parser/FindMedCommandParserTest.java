@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindMedCommand;
+import seedu.address.model.medicine.Medicine;
+
+public class FindMedCommandParserTest {
+
+    private FindMedCommandParser parser = new FindMedCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindMedCommand() {
+        FindMedCommand expectedCommand =
+                new FindMedCommand(List.of(new Medicine("Metformin"), new Medicine("Insulin")));
+        assertParseSuccess(parser, " m/Metformin m/Insulin", expectedCommand);
+
+        // repeated medicines, ignoring case, are dropped
+        assertParseSuccess(parser, " m/Metformin  m/Insulin m/metformin", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMedCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", usage);
+        assertParseFailure(parser, " Metformin", usage);
+        assertParseFailure(parser, " 1 m/Metformin", usage);
+        assertParseFailure(parser, " m/Met formin", Medicine.MESSAGE_CONSTRAINTS);
+    }
+}
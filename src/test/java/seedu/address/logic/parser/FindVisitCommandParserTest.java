@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindVisitCommand;
+import seedu.address.model.patient.LastVisitBetweenPredicate;
+import seedu.address.model.patient.NeverVisitedPredicate;
+
+public class FindVisitCommandParserTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 6, 30);
+
+    private FindVisitCommandParser parser = new FindVisitCommandParser();
+
+    @Test
+    public void parse_dateRange_returnsFindVisitCommand() {
+        assertParseSuccess(parser, " from/2024-01-01 to/2024-06-30",
+                new FindVisitCommand(new LastVisitBetweenPredicate(FROM, TO)));
+        assertParseSuccess(parser, " to/2024-06-30", new FindVisitCommand(new LastVisitBetweenPredicate(null, TO)));
+        assertParseSuccess(parser, " from/2024-01-01 ",
+                new FindVisitCommand(new LastVisitBetweenPredicate(FROM, null)));
+
+        // dates in the future are allowed
+        assertParseSuccess(parser, " from/2999-01-01",
+                new FindVisitCommand(new LastVisitBetweenPredicate(LocalDate.of(2999, 1, 1), null)));
+    }
+
+    @Test
+    public void parse_never_returnsFindVisitCommand() {
+        assertParseSuccess(parser, " /never ", new FindVisitCommand(new NeverVisitedPredicate()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindVisitCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", usage);
+        assertParseFailure(parser, " 2024-01-01", usage);
+        assertParseFailure(parser, " /never to/2024-01-01", usage);
+        assertParseFailure(parser, " from/2024-13-01", MESSAGE_INVALID_DATE_FORMAT);
+        assertParseFailure(parser, " from/2024-06-30 to/2024-01-01", FindVisitCommandParser.MESSAGE_FROM_AFTER_TO);
+        assertParseFailure(parser, " to/2024-01-01 to/2024-02-01",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_TO));
+    }
+}
@@ -1,23 +1,29 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PATIENT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PATIENT;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.patient.Address;
 import seedu.address.model.patient.Email;
 import seedu.address.model.patient.Name;
+import seedu.address.model.patient.PatientId;
 import seedu.address.model.patient.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -62,6 +68,41 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PATIENT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseRangeTarget_rangeOrAll_success() throws Exception {
+        assertEquals(Optional.of(PatientTarget.ofRange(INDEX_FIRST_PATIENT, INDEX_THIRD_PATIENT)),
+                ParserUtil.parseRangeTarget(" 1 - 3 "));
+        assertEquals(Optional.of(PatientTarget.ofRange(INDEX_SECOND_PATIENT, INDEX_SECOND_PATIENT)),
+                ParserUtil.parseRangeTarget("2-2"));
+        assertEquals(Optional.of(PatientTarget.ofAllShown()),
+                ParserUtil.parseRangeTarget(ParserUtil.ALL_PATIENTS_KEYWORD));
+    }
+
+    @Test
+    public void parseRangeTarget_notRange_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), ParserUtil.parseRangeTarget("1"));
+        assertEquals(Optional.empty(), ParserUtil.parseRangeTarget("-1"));
+        assertEquals(Optional.empty(), ParserUtil.parseRangeTarget("2025-05-01"));
+        assertEquals(Optional.empty(), ParserUtil.parseRangeTarget("1-a"));
+    }
+
+    @Test
+    public void parseRangeTarget_invalidRange_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_RANGE, () -> ParserUtil.parseRangeTarget("3-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseRangeTarget("0-2"));
+    }
+
+    @Test
+    public void parsePatientId_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, PatientId.MESSAGE_CONSTRAINTS, () -> ParserUtil.parsePatientId("0"));
+        assertThrows(ParseException.class, PatientId.MESSAGE_CONSTRAINTS, () -> ParserUtil.parsePatientId("1 2"));
+    }
+
+    @Test
+    public void parsePatientId_validValueWithWhitespace_returnsTrimmedPatientId() throws Exception {
+        assertEquals(new PatientId(12), ParserUtil.parsePatientId(WHITESPACE + "12" + WHITESPACE));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -170,6 +211,13 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(VALID_TAG_1));
     }
 
+    @Test
+    public void parseTag_sameValue_notShared() throws Exception {
+        // names that are only typed are not kept for sharing, as they may never be stored
+        assertNotSame(ParserUtil.parseTag(VALID_TAG_1), ParserUtil.parseTag(VALID_TAG_1));
+        assertNotSame(ParserUtil.parseMed(VALID_MED_1), ParserUtil.parseMed(VALID_MED_1));
+    }
+
     @Test
     public void parseTag_validValueWithWhitespace_returnsTrimmedTag() throws Exception {
         String tagWithWhitespace = WHITESPACE + VALID_TAG_1 + WHITESPACE;
@@ -4,12 +4,15 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PATIENT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PATIENT;
 
 import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.PatientTarget;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.model.tag.Tag;
 
@@ -30,6 +33,15 @@ public class TagCommandParserTest {
         );
     }
 
+    @Test
+    public void parse_rangeOrAll_success() {
+        HashSet<Tag> tags = new HashSet<Tag>(Set.of(new Tag("FluShot2026")));
+        assertParseSuccess(new TagCommandParser(), "2-3 t/FluShot2026",
+                new TagCommand(PatientTarget.ofRange(INDEX_SECOND_PATIENT, INDEX_THIRD_PATIENT), tags));
+        assertParseSuccess(new TagCommandParser(), "all t/FluShot2026",
+                new TagCommand(PatientTarget.ofAllShown(), tags));
+    }
+
     @Test
     public void parse_invArg_error() {
         // Referencing DelLastVisitCommandParserTest.java
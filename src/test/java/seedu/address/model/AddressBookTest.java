@@ -7,19 +7,30 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.ELLE;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PatientBuilder;
 
 public class AddressBookTest {
@@ -78,6 +89,140 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPatient(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_afterEachModification_increases() {
+        assertEquals(0, addressBook.getModificationCount());
+        addressBook.addPatient(ALICE);
+        assertEquals(1, addressBook.getModificationCount());
+        addressBook.setPatient(ALICE, BOB);
+        assertEquals(2, addressBook.getModificationCount());
+        addressBook.removePatient(BOB);
+        assertEquals(3, addressBook.getModificationCount());
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(4, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void getModificationCount_failedModification_unchanged() {
+        addressBook.addPatient(ALICE);
+        assertThrows(DuplicatePatientException.class, () -> addressBook.addPatient(ALICE));
+        assertEquals(1, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void addPatient_patientsWithoutIds_givenNewIds() {
+        addressBook.addPatient(ALICE);
+        addressBook.addPatient(BOB);
+        Patient storedBob = addressBook.getPatientList().get(1);
+        assertEquals(new PatientId(1), addressBook.getPatientList().get(0).getId());
+        assertEquals(new PatientId(2), storedBob.getId());
+        assertEquals(Optional.of(storedBob), addressBook.getPatientById(storedBob.getId()));
+    }
+
+    @Test
+    public void setPatients_missingAndRepeatedIds_givenNewIds() {
+        Patient aliceWithId = ALICE.withId(new PatientId(5));
+        Patient bobWithSameId = BOB.withId(new PatientId(5));
+        addressBook.setPatients(List.of(aliceWithId, bobWithSameId, CARL));
+        assertEquals(List.of(new PatientId(5), new PatientId(6), new PatientId(7)),
+                addressBook.getPatientList().stream().map(Patient::getId).toList());
+    }
+
+    @Test
+    public void getPatientById_afterEachModification_upToDate() {
+        addressBook.resetData(getTypicalAddressBook());
+        PatientId bensonId = addressBook.getPatientList().get(1).getId();
+
+        // edited patients keep their id
+        Patient renamedBenson = new PatientBuilder(BENSON).withName("Benson Tan").build();
+        addressBook.setPatient(BENSON, renamedBenson);
+        assertEquals(Optional.of(renamedBenson), addressBook.getPatientById(bensonId));
+        assertEquals(bensonId, addressBook.getPatientList().get(1).getId());
+
+        // ids of removed patients are not given to new patients
+        addressBook.removePatient(renamedBenson);
+        addressBook.addPatient(BOB);
+        assertTrue(addressBook.getPatientById(bensonId).isEmpty());
+        assertEquals(Optional.of(BOB), addressBook.getPatientById(new PatientId(8)));
+    }
+
+    @Test
+    public void getPatientsWithTag_afterEachModification_upToDate() {
+        Tag friends = new Tag("friends");
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), Set.copyOf(addressBook.getPatientsWithTag(friends)));
+
+        Patient untaggedAlice = new PatientBuilder(ALICE).withTags().build();
+        addressBook.setPatient(ALICE, untaggedAlice);
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(addressBook.getPatientsWithTag(friends)));
+
+        addressBook.removePatient(new PatientBuilder(BENSON).build());
+        addressBook.addPatient(BOB);
+        assertEquals(Set.of(DANIEL), Set.copyOf(addressBook.getPatientsWithTag(friends)));
+        assertEquals(Set.of(BOB), Set.copyOf(addressBook.getPatientsWithTag(new Tag(VALID_TAG_HUSBAND))));
+        assertTrue(addressBook.getPatientsWithTag(new Tag("owesMoney")).isEmpty());
+    }
+
+    @Test
+    public void getPatientsLastVisitedBetween_afterEachModification_upToDate() {
+        Patient visited2019 = new PatientBuilder(ALICE).withLastVisit("2019-06-30").build();
+        Patient neverVisited = new PatientBuilder(BOB).withLastVisit(null).build();
+        LocalDate date2020 = LocalDate.of(2020, 1, 1);
+        addressBook.addPatient(visited2019);
+        addressBook.addPatient(neverVisited);
+        assertEquals(Set.of(visited2019), Set.copyOf(addressBook.getPatientsLastVisitedBetween(null, date2020)));
+        assertEquals(Set.of(neverVisited), Set.copyOf(addressBook.getPatientsNeverVisited()));
+
+        Patient visited2020 = new PatientBuilder(neverVisited).withLastVisit("2020-01-01").build();
+        addressBook.setPatient(neverVisited, visited2020);
+        assertEquals(Set.of(visited2019, visited2020),
+                Set.copyOf(addressBook.getPatientsLastVisitedBetween(null, null)));
+        assertEquals(Set.of(visited2020), Set.copyOf(addressBook.getPatientsLastVisitedBetween(date2020, date2020)));
+        assertTrue(addressBook.getPatientsNeverVisited().isEmpty());
+        assertTrue(addressBook.getPatientsLastVisitedBetween(date2020, date2020.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void getPatientsWithNamePrefix_afterEachModification_upToDate() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(addressBook.getPatientsWithNamePrefix("MEI")));
+
+        Patient renamedDaniel = new PatientBuilder(DANIEL).withName("Daniel Tan").build();
+        addressBook.setPatient(DANIEL, renamedDaniel);
+        addressBook.removePatient(BENSON);
+        addressBook.addPatient(BOB);
+        assertTrue(addressBook.getPatientsWithNamePrefix("meier").isEmpty());
+        assertEquals(Set.of(renamedDaniel), Set.copyOf(addressBook.getPatientsWithNamePrefix("ta")));
+        assertEquals(Set.of(BOB), Set.copyOf(addressBook.getPatientsWithNamePrefix("choo")));
+        assertEquals(addressBook.getPatientList().size(), addressBook.getPatientsWithNamePrefix("").size());
+    }
+
+    @Test
+    public void getPatientsWithNameNear_afterEachModification_upToDate() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(addressBook.getPatientsWithNameNear("MEIR", 1)));
+
+        Patient renamedDaniel = new PatientBuilder(DANIEL).withName("Daniel Meir").build();
+        addressBook.setPatient(DANIEL, renamedDaniel);
+        addressBook.removePatient(BENSON);
+        assertEquals(Set.of(renamedDaniel, ELLE), Set.copyOf(addressBook.getPatientsWithNameNear("meier", 1)));
+        assertEquals(Set.of(renamedDaniel), Set.copyOf(addressBook.getPatientsWithNameNear("meir", 0)));
+        assertTrue(addressBook.getPatientsWithNameNear("meier", 0).isEmpty());
+    }
+
+    @Test
+    public void getPatientsWithNameSoundingLike_afterEachModification_upToDate() {
+        Name soundsLikeBenson = new Name("Bensen Meyer");
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of(BENSON), Set.copyOf(addressBook.getPatientsWithNameSoundingLike(soundsLikeBenson)));
+
+        Patient renamedBenson = new PatientBuilder(BENSON).withName("Benson Tan").build();
+        addressBook.setPatient(BENSON, renamedBenson);
+        assertTrue(addressBook.getPatientsWithNameSoundingLike(soundsLikeBenson).isEmpty());
+        assertEquals(Set.of(renamedBenson),
+                Set.copyOf(addressBook.getPatientsWithNameSoundingLike(new Name("Tan Benson"))));
+    }
+
     @Test
     public void getPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPatientList().remove(0));
@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.patient.Address;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.PatientId;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks that the fields which scan their values instead of matching their {@code VALIDATION_REGEX} accept exactly
+ * the values that the regex matches.
+ */
+public class FieldValidationTest {
+
+    /** Characters on either side of each boundary that the scanners check. */
+    private static final String ALPHABET = "aZ09 _-*\t\n\r\u000B\u0085\u2028\u00e9\u0663";
+    private static final int MAX_GENERATED_LENGTH = 3;
+    private static final List<String> CORPUS = buildCorpus();
+
+    @Test
+    public void isValidName_corpus_agreesWithRegex() {
+        assertAgreesWithRegex(Name::isValidName, Name.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isValidAddress_corpus_agreesWithRegex() {
+        assertAgreesWithRegex(Address::isValidAddress, Address.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isValidPhone_corpus_agreesWithRegex() {
+        assertAgreesWithRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isValidId_corpus_agreesWithRegexForPositiveIds() {
+        // ids must also be above zero, which the regex does not check
+        assertAgreesWithRegex(PatientId::isValidId, "(?!0+$)" + PatientId.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isValidTagName_corpus_agreesWithRegex() {
+        assertAgreesWithRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isValidMedName_corpus_agreesWithRegex() {
+        assertAgreesWithRegex(Medicine::isValidMedName, Medicine.VALIDATION_REGEX);
+    }
+
+    private static void assertAgreesWithRegex(Predicate<String> isValid, String regex) {
+        for (String value : CORPUS) {
+            if (value.matches(regex) != isValid.test(value)) {
+                fail("disagrees with " + regex + " on \"" + value.chars().mapToObj(c -> String.format("\\u%04x", c))
+                        .collect(Collectors.joining()) + "\"");
+            }
+        }
+    }
+
+    /**
+     * Returns every string of up to {@code MAX_GENERATED_LENGTH} characters from {@code ALPHABET}, along with
+     * longer values close to each field's limits.
+     */
+    private static List<String> buildCorpus() {
+        List<String> corpus = new ArrayList<>();
+        corpus.add("");
+        int start = 0;
+        for (int length = 1; length <= MAX_GENERATED_LENGTH; length++) {
+            int end = corpus.size();
+            for (int i = start; i < end; i++) {
+                for (char c : ALPHABET.toCharArray()) {
+                    corpus.add(corpus.get(i) + c);
+                }
+            }
+            start = end;
+        }
+        corpus.addAll(List.of("Alex Yeoh", "Alex  Yeoh ", "Blk 30 Geylang Street 29, #06-40", " Blk 30",
+                "Blk 30\nGeylang", "Blk 30 \u2029", "paracetamol_500-mg", "-paracetamol", "paracetamol-",
+                "00", "000000000000000000", "123456789012345678", "1234567890123456789",
+                "1234567890123456", "12345678901234567", "\uff11\uff12\uff13"));
+        return corpus;
+    }
+
+}
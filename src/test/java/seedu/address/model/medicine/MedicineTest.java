@@ -1,5 +1,9 @@
 package seedu.address.model.medicine;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,37 @@ public class MedicineTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Medicine.isValidMedName(null));
+
+        // invalid medicine names
+        assertFalse(Medicine.isValidMedName("")); // empty string
+        assertFalse(Medicine.isValidMedName("-")); // special character only
+        assertFalse(Medicine.isValidMedName("_Panadol")); // starts with a special character
+        assertFalse(Medicine.isValidMedName("Panadol-")); // ends with a special character
+        assertFalse(Medicine.isValidMedName("Pana dol")); // contains a space
+
+        // valid medicine names
+        assertTrue(Medicine.isValidMedName("P")); // one character
+        assertTrue(Medicine.isValidMedName("Vitamin-B_12"));
+    }
+
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Medicine.of("diabetic"), Medicine.of("diabetic"));
+        assertNotSame(Medicine.of("diabetic"), Medicine.of("Diabetic"));
+    }
+
+    @Test
+    public void intern_sameName_returnsFirstInterned() {
+        Medicine first = new Medicine("Interferon-beta");
+        assertSame(first, Medicine.intern(first));
+        assertSame(first, Medicine.intern(new Medicine("Interferon-beta")));
+        assertSame(first, Medicine.of("Interferon-beta"));
+    }
+
+    @Test
+    public void of_invalidName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Medicine.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Medicine.of(""));
     }
 
 }
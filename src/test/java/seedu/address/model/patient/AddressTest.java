@@ -27,10 +27,14 @@ public class AddressTest {
         // invalid addresses
         assertFalse(Address.isValidAddress("")); // empty string
         assertFalse(Address.isValidAddress(" ")); // spaces only
+        assertFalse(Address.isValidAddress("\tBlk 456")); // starts with whitespace
+        assertFalse(Address.isValidAddress("Blk 456\nDen Road")); // line break
+        assertFalse(Address.isValidAddress("Blk 456\u2028Den Road")); // unicode line separator
 
         // valid addresses
         assertTrue(Address.isValidAddress("Blk 456, Den Road, #01-355"));
         assertTrue(Address.isValidAddress("-")); // one character
+        assertTrue(Address.isValidAddress("Blk 456\tDen Road ")); // whitespace after the first character
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
 
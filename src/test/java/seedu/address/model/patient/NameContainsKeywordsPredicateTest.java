@@ -3,13 +3,19 @@ package seedu.address.model.patient;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 import seedu.address.testutil.PatientBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -90,6 +96,22 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PatientBuilder().withName("Alexa Tan").build()));
     }
 
+    @Test
+    public void findMatches_sameAsTestingEveryPatient() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<NameContainsKeywordsPredicate> predicates = List.of(
+                new NameContainsKeywordsPredicate(List.of("mei")),
+                new NameContainsKeywordsPredicate(List.of("ALICE", "kurz", "nobody")),
+                new NameContainsKeywordsPredicate(List.of("Daniel", "Meier"), true),
+                new NameContainsKeywordsPredicate(List.of("Daniel", "Meie"), true));
+        for (NameContainsKeywordsPredicate predicate : predicates) {
+            Set<Patient> expected = model.getAddressBook().getPatientList().stream()
+                    .filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(predicate.findMatches(model)));
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
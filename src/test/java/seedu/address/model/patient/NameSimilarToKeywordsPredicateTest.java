@@ -0,0 +1,77 @@
+package seedu.address.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PatientBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("first"), 1);
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NameSimilarToKeywordsPredicate(List.of("first"), 1)));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(new NameContainsKeywordsPredicate(List.of("first"))));
+
+        // different keywords or distance -> returns false
+        assertFalse(predicate.equals(new NameSimilarToKeywordsPredicate(List.of("second"), 1)));
+        assertFalse(predicate.equals(new NameSimilarToKeywordsPredicate(List.of("first"), 2)));
+    }
+
+    @Test
+    public void test_nameWithinDistance_returnsTrue() {
+        Patient patient = new PatientBuilder().withName("Alexa Tan").build();
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("ALEXIA", "Lim"), 1);
+        assertTrue(predicate.test(patient));
+        assertEquals(1, predicate.rank(patient));
+
+        // closest word is ranked
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Alexia", "tan"), 1);
+        assertEquals(0, predicate.rank(patient));
+    }
+
+    @Test
+    public void test_nameBeyondDistance_returnsFalse() {
+        Patient patient = new PatientBuilder().withName("Alexa Tan").build();
+        assertFalse(new NameSimilarToKeywordsPredicate(List.of("Alcxia"), 1).test(patient));
+        assertFalse(new NameSimilarToKeywordsPredicate(List.of("Tim"), 0).test(patient));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPatient() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<NameSimilarToKeywordsPredicate> predicates = List.of(
+                new NameSimilarToKeywordsPredicate(List.of("meyer"), 1),
+                new NameSimilarToKeywordsPredicate(List.of("Alcie", "Kunz"), 2),
+                new NameSimilarToKeywordsPredicate(List.of("Pauline"), 0));
+        for (NameSimilarToKeywordsPredicate predicate : predicates) {
+            Set<Patient> expected = model.getAddressBook().getPatientList().stream()
+                    .filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(predicate.findMatches(model)));
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("keyword"), 2);
+        String expected = NameSimilarToKeywordsPredicate.class.getCanonicalName()
+                + "{keywords=[keyword], maxDistance=2}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.patient;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -29,6 +31,8 @@ public class NameTest {
         assertFalse(Name.isValidName(" ")); // spaces only
         assertFalse(Name.isValidName("^")); // only non-alphanumeric characters
         assertFalse(Name.isValidName("peter*")); // contains non-alphanumeric characters
+        assertFalse(Name.isValidName(" peter")); // starts with a space
+        assertFalse(Name.isValidName("Ren\u00e9e")); // non-ASCII letter
 
         // valid name
         assertTrue(Name.isValidName("peter jack")); // alphabets only
@@ -56,5 +60,23 @@ public class NameTest {
 
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
+
+        // different case -> returns true, with the same hash code
+        assertTrue(name.equals(new Name("valid NAME")));
+        assertEquals(name.hashCode(), new Name("valid NAME").hashCode());
+    }
+
+    @Test
+    public void getPhoneticKey() {
+        // names that sound alike, in any order and with extra spaces -> same key
+        assertEquals("J500 S530", new Name("John Smith").getPhoneticKey());
+        assertEquals("J500 S530", new Name("Jon  Smyth").getPhoneticKey());
+        assertEquals("J500 S530", new Name("smith JOHN").getPhoneticKey());
+
+        // words without letters are kept
+        assertEquals("12 L000", new Name("Li 12").getPhoneticKey());
+
+        // names that sound different -> different keys
+        assertNotEquals(new Name("John Smith").getPhoneticKey(), new Name("Mary Smith").getPhoneticKey());
     }
 }
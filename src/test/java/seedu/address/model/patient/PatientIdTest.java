@@ -0,0 +1,67 @@
+package seedu.address.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PatientIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PatientId(null));
+    }
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PatientId(0));
+        assertThrows(IllegalArgumentException.class, () -> new PatientId("-1"));
+    }
+
+    @Test
+    public void isValidId() {
+        // null id
+        assertThrows(NullPointerException.class, () -> PatientId.isValidId(null));
+
+        // invalid ids
+        assertFalse(PatientId.isValidId("")); // empty string
+        assertFalse(PatientId.isValidId("0")); // zero
+        assertFalse(PatientId.isValidId("-3")); // negative
+        assertFalse(PatientId.isValidId("1a")); // alphabets within digits
+        assertFalse(PatientId.isValidId("1234567890123456789")); // too long
+        assertFalse(PatientId.isValidId(-3));
+
+        // valid ids
+        assertTrue(PatientId.isValidId("1"));
+        assertTrue(PatientId.isValidId("007")); // leading zeros
+        assertTrue(PatientId.isValidId("999999999999999999")); // longest id
+        assertTrue(PatientId.isValidId(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("7", new PatientId("007").toString());
+    }
+
+    @Test
+    public void equals() {
+        PatientId id = new PatientId(7);
+
+        // same values -> returns true
+        assertTrue(id.equals(new PatientId("7")));
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(7L));
+
+        // different values -> returns false
+        assertFalse(id.equals(new PatientId(8)));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.patient;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -24,6 +25,14 @@ public class PatientTest {
         assertThrows(UnsupportedOperationException.class, () -> patient.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_equalTagsAndMedicines_shared() {
+        Patient alice = new PatientBuilder(ALICE).withTags("sharedTag").withMeds("sharedMed").build();
+        Patient bob = new PatientBuilder(BOB).withTags("sharedTag").withMeds("sharedMed").build();
+        assertSame(alice.getTags().iterator().next(), bob.getTags().iterator().next());
+        assertSame(alice.getMedicines().iterator().next(), bob.getMedicines().iterator().next());
+    }
+
     @Test
     public void isSamePatient() {
         // same object -> returns true
@@ -90,6 +99,23 @@ public class PatientTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPatients_sameHashCode() {
+        // different last visit -> equal, so same hash code
+        Patient editedAlice = new PatientBuilder(ALICE).withLastVisit("2021-06-15").build();
+        assertTrue(ALICE.equals(editedAlice));
+        assertEquals(ALICE.hashCode(), editedAlice.hashCode());
+
+        // name differs in case -> equal, so same hash code
+        editedAlice = new PatientBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(ALICE.equals(editedAlice));
+        assertEquals(ALICE.hashCode(), editedAlice.hashCode());
+
+        // different id -> equal, so same hash code
+        editedAlice = ALICE.withId(new PatientId(1));
+        assertEquals(ALICE.hashCode(), editedAlice.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Patient.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
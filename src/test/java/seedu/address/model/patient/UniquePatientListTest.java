@@ -2,25 +2,33 @@ package seedu.address.model.patient;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.CARL;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
 import seedu.address.testutil.PatientBuilder;
 
 public class UniquePatientListTest {
 
+    private static final int LARGE_LIST_SIZE = 1_000_000;
+
     private final UniquePatientList uniquePatientList = new UniquePatientList();
 
     @Test
@@ -47,6 +55,22 @@ public class UniquePatientListTest {
         assertTrue(uniquePatientList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_patientWithDifferentlyCasedName_returnsTrue() {
+        uniquePatientList.add(ALICE);
+        Patient upperCaseAlice = new PatientBuilder(ALICE).withName(ALICE.getName().toString().toUpperCase()).build();
+        assertTrue(uniquePatientList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_patientRemovedOrRenamed_returnsFalse() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setPatient(ALICE, BOB);
+        assertFalse(uniquePatientList.contains(ALICE));
+        uniquePatientList.remove(BOB);
+        assertFalse(uniquePatientList.contains(BOB));
+    }
+
     @Test
     public void add_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.add(null));
@@ -109,6 +133,107 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatient(ALICE, BOB));
     }
 
+    @Test
+    public void setPatient_targetHasSameIdentityButDifferentFields_throwsPatientNotFoundException() {
+        uniquePatientList.add(ALICE);
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PatientNotFoundException.class, () -> uniquePatientList.setPatient(editedAlice, BOB));
+    }
+
+    @Test
+    public void setPatient_afterEarlierPatientRemoved_replacesTarget() {
+        uniquePatientList.setPatients(List.of(ALICE, BOB, CARL));
+        uniquePatientList.remove(ALICE);
+        Patient editedCarl = new PatientBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePatientList.setPatient(CARL, editedCarl);
+        assertEquals(List.of(BOB, editedCarl), uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(editedCarl, uniquePatientList.getSamePatient(CARL));
+    }
+
+    @Test
+    public void setPatients_targetsAndEditedPatients_replacesTargetsInOneChange() {
+        uniquePatientList.setPatients(List.of(ALICE, BOB, CARL));
+        int[] changeCount = new int[1];
+        uniquePatientList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Patient>) change -> changeCount[0]++);
+
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Patient renamedCarl = new PatientBuilder(CARL).withName(VALID_NAME_AMY).build();
+        uniquePatientList.setPatients(List.of(CARL, ALICE), List.of(renamedCarl, editedAlice));
+
+        assertEquals(List.of(editedAlice, BOB, renamedCarl), uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(renamedCarl, uniquePatientList.getSamePatient(renamedCarl));
+        assertFalse(uniquePatientList.contains(CARL));
+    }
+
+    @Test
+    public void setPatients_targetsAndEditedPatients_changeReplacesOnlyTargets() {
+        uniquePatientList.setPatients(List.of(ALICE, BOB, CARL));
+        List<String> replacements = new ArrayList<>();
+        uniquePatientList.asUnmodifiableObservableList().addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                replacements.add(change.getFrom() + "-" + change.getTo() + " " + change.getRemoved());
+            }
+        });
+
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Patient editedCarl = new PatientBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePatientList.setPatients(List.of(CARL, ALICE), List.of(editedCarl, editedAlice));
+
+        // BOB is not part of any replacement
+        Collections.sort(replacements);
+        assertEquals(List.of("0-1 " + List.of(ALICE), "2-3 " + List.of(CARL)), replacements);
+    }
+
+    @Test
+    public void setPatients_editedPatientHasNonUniqueIdentity_listUnchanged() {
+        uniquePatientList.setPatients(List.of(ALICE, BOB, CARL));
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Patient renamedCarl = new PatientBuilder(CARL).withName(BOB.getName().fullName).build();
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(
+                List.of(ALICE, CARL), List.of(editedAlice, renamedCarl)));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPatients_editedPatientTakesIdentityOfRenamedTarget_success() {
+        uniquePatientList.setPatients(List.of(ALICE, BOB, CARL));
+        Patient aliceRenamedToBob = new PatientBuilder(ALICE).withName(BOB.getName().fullName).build();
+        Patient bobRenamedToAmy = new PatientBuilder(BOB).withName(VALID_NAME_AMY).build();
+        uniquePatientList.setPatients(List.of(ALICE, BOB), List.of(aliceRenamedToBob, bobRenamedToAmy));
+
+        assertEquals(List.of(aliceRenamedToBob, bobRenamedToAmy, CARL),
+                uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(aliceRenamedToBob, uniquePatientList.getSamePatient(BOB));
+        assertEquals(bobRenamedToAmy, uniquePatientList.getSamePatient(bobRenamedToAmy));
+        assertFalse(uniquePatientList.contains(ALICE));
+    }
+
+    @Test
+    public void setPatients_editedPatientsSwapIdentities_success() {
+        uniquePatientList.setPatients(List.of(ALICE, BOB, CARL));
+        Patient aliceRenamedToBob = new PatientBuilder(ALICE).withName(BOB.getName().fullName).build();
+        Patient bobRenamedToAlice = new PatientBuilder(BOB).withName(ALICE.getName().fullName).build();
+        uniquePatientList.setPatients(List.of(ALICE, BOB), List.of(aliceRenamedToBob, bobRenamedToAlice));
+
+        assertEquals(List.of(aliceRenamedToBob, bobRenamedToAlice, CARL),
+                uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(aliceRenamedToBob, uniquePatientList.getSamePatient(BOB));
+        assertEquals(bobRenamedToAlice, uniquePatientList.getSamePatient(ALICE));
+    }
+
+    @Test
+    public void setPatients_editedPatientTakesIdentityOfTargetKeepingIt_listUnchanged() {
+        uniquePatientList.setPatients(List.of(ALICE, BOB, CARL));
+        Patient aliceRenamedToBob = new PatientBuilder(ALICE).withName(BOB.getName().fullName).build();
+        Patient editedBob = new PatientBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(
+                List.of(ALICE, BOB), List.of(aliceRenamedToBob, editedBob)));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePatientList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.remove(null));
@@ -119,6 +244,14 @@ public class UniquePatientListTest {
         assertThrows(PatientNotFoundException.class, () -> uniquePatientList.remove(ALICE));
     }
 
+    @Test
+    public void remove_patientWithSameIdentityButDifferentFields_throwsPatientNotFoundException() {
+        uniquePatientList.add(ALICE);
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PatientNotFoundException.class, () -> uniquePatientList.remove(editedAlice));
+        assertTrue(uniquePatientList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPatient_removesPatient() {
         uniquePatientList.add(ALICE);
@@ -162,6 +295,37 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(listWithDuplicatePatients));
     }
 
+    @Test
+    public void setPatients_listWithDuplicatePatients_reportsAllDuplicatePositions() {
+        uniquePatientList.add(BOB);
+        Patient lowerCaseAlice = new PatientBuilder(ALICE).withName(ALICE.getName().toString().toLowerCase()).build();
+        List<Patient> listWithDuplicatePatients = Arrays.asList(ALICE, BOB, lowerCaseAlice, BOB);
+        String expectedMessage = new DuplicatePatientException(Arrays.asList(2, 3)).getMessage();
+        assertThrows(DuplicatePatientException.class, expectedMessage, () ->
+                uniquePatientList.setPatients(listWithDuplicatePatients));
+
+        // list is left unchanged
+        UniquePatientList expectedUniquePatientList = new UniquePatientList();
+        expectedUniquePatientList.add(BOB);
+        assertEquals(expectedUniquePatientList, uniquePatientList);
+    }
+
+    @Test
+    public void setPatients_oneMillionPatients_completesWithinTimeLimit() {
+        Phone phone = new Phone(PatientBuilder.DEFAULT_PHONE);
+        Email email = new Email(PatientBuilder.DEFAULT_EMAIL);
+        Address address = new Address(PatientBuilder.DEFAULT_ADDRESS);
+        List<Patient> patients = new ArrayList<>(LARGE_LIST_SIZE);
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            patients.add(new Patient(new Name("patient " + i), phone, email, address, null,
+                    Collections.emptySet(), Collections.emptySet()));
+        }
+
+        assertTimeout(Duration.ofSeconds(10), () -> uniquePatientList.setPatients(patients));
+        assertEquals(LARGE_LIST_SIZE, uniquePatientList.asUnmodifiableObservableList().size());
+        assertTrue(uniquePatientList.contains(patients.get(LARGE_LIST_SIZE - 1)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
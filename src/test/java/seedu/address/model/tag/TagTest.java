@@ -1,5 +1,9 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +25,36 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("high risk")); // contains a space
+        assertFalse(Tag.isValidTagName("diabetic!")); // contains other special characters
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("diabetic"));
+        assertTrue(Tag.isValidTagName("-")); // special characters only
+        assertTrue(Tag.isValidTagName("follow_up-2"));
+    }
+
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("diabetic"), Tag.of("diabetic"));
+        assertNotSame(Tag.of("diabetic"), Tag.of("Diabetic"));
+    }
+
+    @Test
+    public void intern_sameName_returnsFirstInterned() {
+        Tag first = new Tag("recoveringPatient");
+        assertSame(first, Tag.intern(first));
+        assertSame(first, Tag.intern(new Tag("recoveringPatient")));
+        assertSame(first, Tag.of("recoveringPatient"));
+    }
+
+    @Test
+    public void of_invalidName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
     }
 
 }
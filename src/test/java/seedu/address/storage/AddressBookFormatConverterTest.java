@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_success() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path exportedPath = testFolder.resolve("exported.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(jsonPath, binaryPath);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        AddressBookFormatConverter.convert(binaryPath, exportedPath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportedPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("addressbook.bin")));
+    }
+
+    @Test
+    public void storageFor_extension_matchingStorage() {
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "addressbook.json"))
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "addressbook.bin"))
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void withExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormatConverter.withExtension(Paths.get("data", "addressbook.json"), ".bin"));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormatConverter.withExtension(Paths.get("data", "addressbook"), ".bin"));
+        assertEquals(Paths.get("data", ".hidden.bin"),
+                AddressBookFormatConverter.withExtension(Paths.get("data", ".hidden"), ".bin"));
+    }
+}
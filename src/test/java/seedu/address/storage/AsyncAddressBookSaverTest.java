@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_thenFlush_writesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBook();
+
+        saver.save(original);
+        saver.shutdown();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_patientWithHighestIdRemoved_lastIdWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBook();
+        original.removePatient(original.getPatientList().get(original.getPatientList().size() - 1));
+
+        saver.save(original);
+        saver.shutdown();
+        assertEquals(original.getLastId(), storage.readAddressBook().get().getLastId());
+    }
+
+    @Test
+    public void save_whileWriting_coalescedIntoOneWriteOfLatestSnapshot() throws Exception {
+        BlockingStorageStub storage = new BlockingStorageStub(testFolder.resolve("TempAddressBook.json"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        saver.save(addressBook);
+        storage.firstWriteStarted.await();
+        addressBook.addPatient(ALICE);
+        saver.save(addressBook);
+        addressBook.addPatient(BENSON);
+        saver.save(addressBook);
+        storage.releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(storage.savedAddressBooks.get(1)));
+    }
+
+    @Test
+    public void save_addressBookModifiedAfterRequest_writesSnapshotAtRequest() throws Exception {
+        BlockingStorageStub storage = new BlockingStorageStub(testFolder.resolve("TempAddressBook.json"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(ALICE);
+
+        saver.save(addressBook);
+        storage.firstWriteStarted.await();
+        addressBook.addPatient(BENSON);
+        storage.releaseFirstWrite.countDown();
+        saver.flush();
+
+        AddressBook expected = new AddressBook();
+        expected.addPatient(ALICE);
+        assertEquals(expected, new AddressBook(storage.savedAddressBooks.get(0)));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                });
+
+        saver.save(new AddressBook());
+        assertThrows(IOException.class, failure.getMessage(), saver::flush);
+        saver.flush();
+    }
+
+    @Test
+    public void takeFailure_writeFailed_returnsFailureOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                });
+
+        saver.save(new AddressBook());
+        assertThrows(IOException.class, saver::flush);
+        assertFalse(saver.takeFailure().isPresent());
+
+        saver.save(new AddressBook());
+        saver.awaitPendingWrites();
+        assertTrue(saver.takeFailure().isPresent());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    /**
+     * A storage that records what it saves, and holds up its first write until released.
+     */
+    private static class BlockingStorageStub extends JsonAddressBookStorage {
+        private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+        BlockingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            savedAddressBooks.add(addressBook);
+            if (savedAddressBooks.size() == 1) {
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+    }
+}
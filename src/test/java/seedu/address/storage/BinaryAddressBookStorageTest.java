@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.IDA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+import seedu.address.testutil.PatientBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("data.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormat.bin");
+        Files.writeString(filePath, "{ \"patients\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void read_invalidPatient_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("invalidPatient.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(new AddressBookWithPatients(List.of(ALICE)), new DataOutputStream(bytes));
+        byte[] content = bytes.toByteArray();
+        content[indexOf(content, ALICE.getPhone().value.getBytes())] = 'x';
+        Files.write(filePath, withChecksum(content));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_duplicatePatients_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("duplicatePatients.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(new AddressBookWithPatients(List.of(ALICE, ALICE)),
+                new DataOutputStream(bytes));
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_versionWithoutIds_patientsGivenIds() throws Exception {
+        Path filePath = testFolder.resolve("versionWithoutIds.bin");
+        Patient patient = new PatientBuilder(ALICE).withTags().withMeds().build();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(new AddressBookWithPatients(List.of(patient)), new DataOutputStream(bytes));
+        byte[] content = bytes.toByteArray();
+
+        // The last id follows the magic number and version, and with empty dictionaries, the id of the only record
+        // follows the 28 bytes before it. The checksum at the end is dropped as well.
+        int versionLength = 2 * Integer.BYTES;
+        int headerLength = 28;
+        ByteBuffer withoutIds = ByteBuffer.allocate(content.length - 2 * Long.BYTES - Integer.BYTES);
+        withoutIds.put(content, 0, versionLength);
+        withoutIds.put(content, versionLength + Long.BYTES, headerLength - versionLength - Long.BYTES);
+        withoutIds.put(content, headerLength + Long.BYTES,
+                content.length - headerLength - Long.BYTES - Integer.BYTES);
+        withoutIds.putInt(Integer.BYTES, BinaryAddressBookFormat.VERSION_WITHOUT_IDS);
+        Files.write(filePath, withoutIds.array());
+
+        List<Patient> readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPatientList();
+        assertEquals(List.of(patient), readBack);
+        assertEquals(new PatientId(1), readBack.get(0).getId());
+    }
+
+    @Test
+    public void read_versionWithoutChecksum_success() throws Exception {
+        Path filePath = testFolder.resolve("versionWithoutChecksum.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(getTypicalAddressBook(), new DataOutputStream(bytes));
+        byte[] content = Arrays.copyOf(bytes.toByteArray(), bytes.size() - Integer.BYTES);
+        ByteBuffer.wrap(content).putInt(Integer.BYTES, BinaryAddressBookFormat.VERSION_WITHOUT_CHECKSUM);
+        Files.write(filePath, content);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_damagedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("damaged.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(getTypicalAddressBook(), new DataOutputStream(bytes));
+        byte[] content = bytes.toByteArray();
+        // a valid address that is still not the one saved
+        content[indexOf(content, ALICE.getAddress().value.getBytes())] ^= 1;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPatient(HOON);
+        original.removePatient(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPatient(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_afterRemovingPatientWithHighestId_idNotReused() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPatient(HOON);
+        original.removePatient(HOON);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        readBack.addPatient(IDA);
+
+        // the typical patients had ids 1 to 7, and HOON had 8
+        assertEquals(new PatientId(9), readBack.getPatientList().get(7).getId());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allFields_preserved() throws Exception {
+        Path filePath = testFolder.resolve("AllFields.bin");
+        Patient neverVisited = new PatientBuilder(BENSON).withLastVisit(null).withMeds("Panadol", "Insulin-b").build();
+        Patient unicode = new PatientBuilder(ALICE).withAddress("\u6771\u4eac, 1-2-3 Ginza \u2713").build();
+        AddressBook original = new AddressBook();
+        original.setPatients(List.of(unicode, neverVisited));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        List<Patient> readBack = storage.readAddressBook().get().getPatientList();
+
+        assertEquals(original.getPatientList(), readBack);
+        // Patient equality does not cover every field, so compare those separately
+        assertEquals(original.getPatientList().get(0).getId(), readBack.get(0).getId());
+        assertEquals(original.getPatientList().get(1).getId(), readBack.get(1).getId());
+        assertEquals(unicode.getLastVisit(), readBack.get(0).getLastVisit());
+        assertEquals(unicode.getAddress(), readBack.get(0).getAddress());
+        assertNull(readBack.get(1).getLastVisit());
+        assertEquals(neverVisited.getMedicines(), readBack.get(1).getMedicines());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("data.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("data.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+
+    /**
+     * Returns {@code content} with the checksum at its end replaced by the checksum of the bytes before it.
+     */
+    private static byte[] withChecksum(byte[] content) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(content, 0, content.length - Integer.BYTES);
+        ByteBuffer.wrap(content).putInt(content.length - Integer.BYTES, (int) checksum.getValue());
+        return content;
+    }
+
+    private static int indexOf(byte[] content, byte[] target) {
+        for (int i = 0; i + target.length <= content.length; i++) {
+            if (Arrays.equals(content, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+
+    /**
+     * A {@code ReadOnlyAddressBook} whose patients may violate the uniqueness constraint.
+     */
+    private static class AddressBookWithPatients implements ReadOnlyAddressBook {
+        private final ObservableList<Patient> patients;
+
+        AddressBookWithPatients(List<Patient> patients) {
+            this.patients = FXCollections.observableArrayList(patients);
+        }
+
+        @Override
+        public ObservableList<Patient> getPatientList() {
+            return patients;
+        }
+    }
+}
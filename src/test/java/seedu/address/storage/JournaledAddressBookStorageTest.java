@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.IDA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientId;
+import seedu.address.storage.JsonAdaptedJournalRecord.Operation;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final Patient ALICE_COPY = new PatientBuilder(ALICE).build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPatient(HOON);
+        original.removePatient(ALICE);
+        original.setPatient(BENSON, new PatientBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(original);
+
+        // snapshot is untouched and the journal holds its header plus one record per change
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPatient(IDA);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(2, readJournal(filePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingJournalWithoutIds_journalsOnlyChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        // a record journaled before patients had ids
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                (JsonUtil.toCompactJsonString(new JsonAdaptedJournalRecord(Operation.INSERT, 0, HOON)) + "\n")
+                        .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPatient(IDA);
+        reopened.saveAddressBook(readBack);
+
+        // HOON was given an id on loading, which is not a change to be journaled
+        assertEquals(3, readJournal(filePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalLongerThanSnapshot_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = new AddressBook();
+        original.addPatient(ALICE);
+        storage.saveAddressBook(original);
+
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        original.setPatient(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        assertEquals(2, readJournal(filePath).size());
+
+        original.setPatient(editedAlice, ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedAppend_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // a directory in place of the journal makes the append fail
+        Files.delete(journalPath);
+        Files.createDirectory(journalPath);
+        original.addPatient(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+
+        Files.delete(journalPath);
+        original.addPatient(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+
+        // snapshot replaced without its journal being reset, e.g. by an interrupted compaction
+        AddressBook replacement = new AddressBook();
+        replacement.addPatient(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_afterRemovingPatientWithHighestId_idNotReused() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addPatient(HOON);
+        original.removePatient(HOON);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        readBack.addPatient(IDA);
+
+        // the typical patients had ids 1 to 7, and HOON had 8
+        assertEquals(new PatientId(9), readBack.getPatientList().get(7).getId());
+    }
+
+    @Test
+    public void readAddressBook_patientAddedAndRemovedBetweenSaves_idNotReused() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        original.removePatient(HOON);
+        storage.saveAddressBook(original);
+
+        // the journal records the id given to HOON, as no other record shows it
+        assertEquals(2, readJournal(filePath).size());
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        readBack.addPatient(IDA);
+        assertEquals(new PatientId(9), readBack.getPatientList().get(7).getId());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_dropped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"INSERT\",\"posi".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // the cut-short journal is replaced rather than appended to
+        readBack.addPatient(IDA);
+        reopened.saveAddressBook(readBack);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordOutOfRange_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"REMOVE\",\"position\":100}\n{}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path exportPath = testFolder.resolve("Export.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original, exportPath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(exportPath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void diff_mixedChanges_reproducesNewList() throws Exception {
+        Patient editedCarl = new PatientBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        List<Patient> oldPatients = Arrays.asList(ALICE, BENSON, CARL, HOON);
+        List<Patient> newPatients = Arrays.asList(BENSON, IDA, editedCarl, HOON, ALICE_COPY);
+
+        List<Patient> replayed = new ArrayList<>(oldPatients);
+        for (JsonAdaptedJournalRecord record : JournaledAddressBookStorage.diff(oldPatients, newPatients)) {
+            record.applyTo(replayed);
+        }
+        assertEquals(newPatients, replayed);
+    }
+
+    @Test
+    public void diff_reorderedPatients_returnsNull() {
+        List<Patient> oldPatients = Arrays.asList(ALICE, BENSON, CARL);
+        List<Patient> newPatients = Arrays.asList(CARL, BENSON, ALICE);
+        assertNull(JournaledAddressBookStorage.diff(oldPatients, newPatients));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("SomeFile.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+}
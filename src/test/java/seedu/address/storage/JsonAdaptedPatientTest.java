@@ -15,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.patient.Address;
 import seedu.address.model.patient.Email;
 import seedu.address.model.patient.Name;
+import seedu.address.model.patient.PatientId;
 import seedu.address.model.patient.Phone;
 
 public class JsonAdaptedPatientTest {
@@ -42,6 +43,21 @@ public class JsonAdaptedPatientTest {
         assertEquals(BENSON, patient.toModelType());
     }
 
+    @Test
+    public void toModelType_patientWithId_keepsId() throws Exception {
+        PatientId id = new PatientId(5);
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(BENSON.withId(id));
+        assertEquals(id, patient.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPatient patient =
+                new JsonAdaptedPatient(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_LAST_VISIT, VALID_TAGS, VALID_MEDS);
+        assertThrows(IllegalValueException.class, PatientId.MESSAGE_CONSTRAINTS, patient::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPatient patient =
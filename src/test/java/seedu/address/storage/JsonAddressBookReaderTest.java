@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPatients;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PATIENTS_FILE = TEST_DATA_FOLDER.resolve("typicalPatientsAddressBook.json");
+    private static final Path INVALID_PATIENT_FILE = TEST_DATA_FOLDER.resolve("invalidPatientsAddressBook.json");
+    private static final Path DUPLICATE_PATIENT_FILE = TEST_DATA_FOLDER.resolve("duplicatePatientsAddressBook.json");
+
+    @Test
+    public void read_typicalPatientsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PATIENTS_FILE)) {
+            assertEquals(TypicalPatients.getTypicalAddressBook(), JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_invalidPatientFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PATIENT_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicatePatients_throwsIllegalValueException() throws Exception {
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT + " "
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_POSITIONS, "2");
+        try (InputStream in = Files.newInputStream(DUPLICATE_PATIENT_FILE)) {
+            assertThrows(IllegalValueException.class, expectedMessage, () -> JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        String json = "{ \"version\" : { \"major\" : 1 }, \"patients\" : [ { \"name\" : \"Alice Pauline\", "
+                + "\"phone\" : \"94351253\", \"email\" : \"alice@example.com\", \"address\" : \"4th street\", "
+                + "\"notes\" : [ \"unused\" ] } ], \"comment\" : \"unused\" }";
+        AddressBook addressBook = JsonAddressBookReader.read(toStream(json));
+        assertEquals(1, addressBook.getPatientList().size());
+    }
+
+    @Test
+    public void read_emptyPatientList_success() throws Exception {
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(toStream("{ \"patients\" : [ ] }")));
+    }
+
+    @Test
+    public void read_lastId_reservesIds() throws Exception {
+        AddressBook addressBook = JsonAddressBookReader.read(toStream("{ \"lastId\" : 7, \"patients\" : [ ] }"));
+        assertEquals(7, addressBook.getLastId());
+        assertEquals(0, JsonAddressBookReader.read(toStream("{ \"lastId\" : null, \"patients\" : [ ] }"))
+                .getLastId());
+    }
+
+    @Test
+    public void read_invalidLastId_throwsIllegalValueException() {
+        for (String lastId : new String[] {"-1", "2.5", "1e3", "9223372036854775808"}) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_INVALID_LAST_ID, () ->
+                    JsonAddressBookReader.read(toStream("{ \"lastId\" : " + lastId + ", \"patients\" : [ ] }")));
+        }
+        assertThrows(IOException.class, () ->
+                JsonAddressBookReader.read(toStream("{ \"lastId\" : \"7\", \"patients\" : [ ] }")));
+    }
+
+    @Test
+    public void read_missingPatients_throwsIoException() {
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_MISSING_PATIENTS, () ->
+                JsonAddressBookReader.read(toStream("{ }")));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("[ ]")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("{ \"patients\" : [ 1 ] }")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("")));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
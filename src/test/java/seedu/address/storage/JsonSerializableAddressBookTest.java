@@ -40,8 +40,9 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePatients_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_patient_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT + " "
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_POSITIONS, "2");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.patient.Patient;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormat.bin");
+        Files.writeString(filePath, "{ \"patients\": [] }");
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_savedByBinaryStorage_decodedOnlyWhenUsed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<Patient> readBack = new MappedAddressBookStorage(filePath).readAddressBook().get().getPatientList();
+        LazyPatient alice = (LazyPatient) readBack.get(0);
+        assertEquals(ALICE.getName(), alice.getName());
+        assertEquals(ALICE.getLastVisit(), alice.getLastVisit());
+        assertFalse(alice.isDecoded());
+
+        assertEquals(ALICE.getAddress(), alice.getAddress());
+        assertTrue(alice.isDecoded());
+        assertEquals(ALICE, alice);
+        assertEquals(ALICE.hashCode(), alice.hashCode());
+        assertEquals(original.getPatientList(), readBack);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPatients_copiedWithoutDecoding() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(addressBook.getPatientList().stream()
+                .filter(patient -> patient instanceof LazyPatient)
+                .noneMatch(patient -> ((LazyPatient) patient).isDecoded()));
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPatient(HOON);
+        assertEquals(expected, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPatient(ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        content[indexOfEmail(content)] = ' ';
+        Files.write(filePath, content);
+
+        // the damaged email is only decoded lazily, but the file no longer matches its checksum
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidEmailWithMatchingChecksum_throwsWhenDecoded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPatient(ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        content[indexOfEmail(content)] = ' ';
+        Files.write(filePath, withChecksum(content));
+
+        LazyPatient alice = (LazyPatient) new MappedAddressBookStorage(filePath).readAddressBook().get()
+                .getPatientList().get(0);
+        assertEquals(ALICE.getName(), alice.getName());
+        assertThrows(IllegalStateException.class, alice::getEmail);
+    }
+
+    @Test
+    public void readAddressBook_medicineIndexOutOfRange_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPatient(ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        // the file ends with the index of ALICE's only medicine, then the checksum
+        ByteBuffer.wrap(content).putInt(content.length - 2 * Integer.BYTES, 1);
+        Files.write(filePath, withChecksum(content));
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private static int indexOfEmail(byte[] content) {
+        return new String(content, StandardCharsets.ISO_8859_1).indexOf(ALICE.getEmail().value);
+    }
+
+    /**
+     * Returns {@code content} with the checksum at its end replaced by the checksum of the bytes before it.
+     */
+    private static byte[] withChecksum(byte[] content) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(content, 0, content.length - Integer.BYTES);
+        ByteBuffer.wrap(content).putInt(content.length - Integer.BYTES, (int) checksum.getValue());
+        return content;
+    }
+}